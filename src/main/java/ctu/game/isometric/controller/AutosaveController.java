@@ -0,0 +1,313 @@
+package ctu.game.isometric.controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import ctu.game.isometric.model.dictionary.ReviewState;
+import ctu.game.isometric.model.entity.Character;
+import ctu.game.isometric.model.game.FlagSet;
+import ctu.game.isometric.model.game.GameSave;
+import ctu.game.isometric.model.game.GameState;
+import ctu.game.isometric.model.game.QuickSaveBase;
+import ctu.game.isometric.model.game.SaveDelta;
+import ctu.game.isometric.util.BinarySaveCodec;
+import ctu.game.isometric.util.SaveCodec;
+import ctu.game.isometric.util.SaveFiles;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Autosaves and quick-saves into a ring of slots under saves/quick/. Each slot holds a
+ * SaveDelta against a full QuickSaveBase, so a typical autosave writes a few hundred
+ * bytes. A new base is written when the delta gets large or can't express a change
+ * (something was removed, or a different character is being played).
+ *
+ * Snapshots and diffs are taken on the game thread; encoding and writes run on the
+ * save thread. Bases are always written before the slots that reference them and
+ * deleted only once no slot does.
+ */
+public class AutosaveController implements EventManager.ProgressListener {
+    private static final String QUICK_DIRECTORY = "saves/quick/";
+    private static final int RING_SIZE = 4;
+    private static final float AUTOSAVE_INTERVAL = 120f;
+    // Triggers closer together than this share one autosave
+    private static final float MIN_AUTOSAVE_GAP = 5f;
+    private static final int REBASE_THRESHOLD = 256;
+
+    private final GameController gameController;
+    private final GameSaveController saveController;
+    private final SaveCodec codec = new BinarySaveCodec();
+
+    // Game thread state
+    private QuickSaveBase base;
+    private final long[] slotBaseIds = new long[RING_SIZE];
+    private long nextSequence = 1;
+    private int nextSlot = 0;
+    private float sinceLastSave = 0;
+    private boolean pending = false;
+
+    public AutosaveController(GameController gameController, GameSaveController saveController) {
+        this.gameController = gameController;
+        this.saveController = saveController;
+        scanSlots();
+    }
+
+    @Override
+    public void onEventCompleted(String eventId) {
+        requestAutosave();
+    }
+
+    @Override
+    public void onEnemyDefeated(int enemyId) {
+        requestAutosave();
+    }
+
+    public void requestAutosave() {
+        pending = true;
+    }
+
+    // Call while exploring, when the game state is consistent
+    public void update(float delta) {
+        sinceLastSave += delta;
+        if (sinceLastSave >= AUTOSAVE_INTERVAL || (pending && sinceLastSave >= MIN_AUTOSAVE_GAP)) {
+            quickSave();
+        }
+    }
+
+    public void quickSave() {
+        // Only save a consistent world: the player is out on the map, not mid-combat or in a menu
+        if (gameController.getCurrentState() != GameState.EXPLORING || gameController.getCharacter() == null) return;
+        pending = false;
+        sinceLastSave = 0;
+
+        Character character = gameController.getCharacter();
+        GameSave current = saveController.createGameSave(character, gameController.getEventManager());
+        Set<String> words = GameSaveController.collectLearnedWords(character);
+
+        SaveDelta delta = base == null ? null : diff(current, words);
+        QuickSaveBase newBase = null;
+        if (delta == null) {
+            newBase = new QuickSaveBase(nextSequence++, current, words);
+            delta = new SaveDelta(newBase.getId(), nextSequence++);
+            // current and words are detached copies, so the save thread can encode the
+            // same objects later diffs read from
+            base = newBase;
+        }
+
+        int slot = nextSlot;
+        nextSlot = (nextSlot + 1) % RING_SIZE;
+        slotBaseIds[slot] = delta.getBaseId();
+        Set<Long> referencedBases = new HashSet<>();
+        for (long id : slotBaseIds) {
+            referencedBases.add(id);
+        }
+
+        QuickSaveBase baseToWrite = newBase;
+        SaveDelta deltaToWrite = delta;
+        saveController.runOnSaveThread(() -> writeSlot(slot, baseToWrite, deltaToWrite, referencedBases));
+    }
+
+    // Load the newest quick-save slot; runs after any queued writes
+    public void loadLatest() {
+        saveController.runOnSaveThread(() -> {
+            SaveDelta latest = null;
+            for (int i = 0; i < RING_SIZE; i++) {
+                SaveDelta delta = readSlot(i);
+                if (delta != null && (latest == null || delta.getSequence() > latest.getSequence())) {
+                    latest = delta;
+                }
+            }
+            if (latest == null) {
+                Gdx.app.log("AutosaveController", "No quick save to load");
+                return;
+            }
+
+            try {
+                QuickSaveBase loadedBase = codec.decode(baseFile(latest.getBaseId()).readBytes(), QuickSaveBase.class);
+                GameSave save = apply(loadedBase, latest);
+                Set<String> words = loadedBase.getLearnedWords();
+                Gdx.app.postRunnable(() -> {
+                    gameController.loadCharacter(save.getCharacter());
+                    gameController.getEventManager().updateAfterLoadGame(save);
+                    gameController.getCharacter().setLearnedWords(words);
+                    gameController.setCreated(true);
+                    // The loaded state may be older than our base; start a fresh one
+                    base = null;
+                    Gdx.app.log("AutosaveController", "Quick save loaded from " + save.getSaveDate());
+                });
+            } catch (Exception e) {
+                Gdx.app.error("AutosaveController", "Error loading quick save: " + e.getMessage());
+                e.printStackTrace();
+            }
+        });
+    }
+
+    // Changes since base, or null if a new base is needed
+    private SaveDelta diff(GameSave current, Set<String> words) {
+        Character before = base.getGameSave().getCharacter();
+        Character after = current.getCharacter();
+        if (!Objects.equals(before.getName(), after.getName())) return null;
+
+        SaveDelta delta = new SaveDelta(base.getId(), nextSequence);
+        if (after.getHealth() != before.getHealth()) delta.setHealth(after.getHealth());
+        if (after.getDamage() != before.getDamage()) delta.setDamage(after.getDamage());
+        if (after.getScore() != before.getScore()) delta.setScore(after.getScore());
+        if (after.getPlayTime() != before.getPlayTime()) delta.setPlayTime(after.getPlayTime());
+        if (after.getGridX() != before.getGridX()) delta.setGridX(after.getGridX());
+        if (after.getGridY() != before.getGridY()) delta.setGridY(after.getGridY());
+        if (!Objects.equals(after.getDirection(), before.getDirection())) delta.setDirection(after.getDirection());
+
+        if (!collectAdded(before.getFlags(), after.getFlags(), delta.getAddedFlags())
+                || !collectAdded(before.getQuests(), after.getQuests(), delta.getAddedQuests())
+                || !before.getBuffs().equals(after.getBuffs())
+                || !before.getDebuffs().equals(after.getDebuffs())
+                || !collectAdded(base.getGameSave().getListIdCompletedEvents(), current.getListIdCompletedEvents(), delta.getCompletedEvents())
+                || !collectAdded(base.getGameSave().getListIdDefeatedEnemies(), current.getListIdDefeatedEnemies(), delta.getDefeatedEnemies())
+                || !collectAdded(base.getLearnedWords(), words, delta.getLearnedWords())) {
+            return null;
+        }
+
+        Map<String, Integer> itemsBefore = before.getItems() == null ? Collections.emptyMap() : before.getItems();
+        Map<String, Integer> itemsAfter = after.getItems() == null ? Collections.emptyMap() : after.getItems();
+        Set<String> itemKeys = new HashSet<>(itemsBefore.keySet());
+        itemKeys.addAll(itemsAfter.keySet());
+        for (String item : itemKeys) {
+            Integer count = itemsAfter.get(item);
+            if (!Objects.equals(count, itemsBefore.get(item))) {
+                delta.getItemChanges().put(item, count == null ? 0 : count);
+            }
+        }
+
+        Map<String, ReviewState> reviewsBefore = before.getReviewStates();
+        for (Map.Entry<String, ReviewState> review : after.getReviewStates().entrySet()) {
+            if (!review.getValue().equals(reviewsBefore.get(review.getKey()))) {
+                delta.getReviewChanges().put(review.getKey(), review.getValue());
+            }
+        }
+
+        if (delta.size() > REBASE_THRESHOLD) return null;
+        nextSequence++;
+        return delta;
+    }
+
+    // Adds to added whatever after has beyond before; false if anything was removed
+    private static <T> boolean collectAdded(Collection<T> before, Collection<T> after, Collection<T> added) {
+        Set<T> beforeSet = before == null ? Collections.emptySet() : new HashSet<>(before);
+        Set<T> afterSet = after == null ? Collections.emptySet() : new HashSet<>(after);
+        if (!afterSet.containsAll(beforeSet)) return false;
+        for (T value : afterSet) {
+            if (!beforeSet.contains(value)) {
+                added.add(value);
+            }
+        }
+        return true;
+    }
+
+    private static boolean collectAdded(FlagSet before, FlagSet after, Collection<String> added) {
+        if (!after.containsAll(before)) return false;
+        after.collectAddedSince(before, added);
+        return true;
+    }
+
+    private static GameSave apply(QuickSaveBase base, SaveDelta delta) {
+        GameSave save = base.getGameSave();
+        Character character = save.getCharacter();
+
+        if (delta.getHealth() != null) character.setHealth(delta.getHealth());
+        if (delta.getDamage() != null) character.setDamage(delta.getDamage());
+        if (delta.getScore() != null) character.setScore(delta.getScore());
+        if (delta.getPlayTime() != null) character.setPlayTime(delta.getPlayTime());
+        if (delta.getGridX() != null || delta.getGridY() != null) {
+            float x = delta.getGridX() != null ? delta.getGridX() : character.getGridX();
+            float y = delta.getGridY() != null ? delta.getGridY() : character.getGridY();
+            character.setPosition(x, y);
+        }
+        if (delta.getDirection() != null) character.setDirection(delta.getDirection());
+
+        character.getFlags().addAll(delta.getAddedFlags());
+        character.getQuests().addAll(delta.getAddedQuests());
+
+        if (character.getItems() == null) character.setItems(new HashMap<>());
+        for (Map.Entry<String, Integer> change : delta.getItemChanges().entrySet()) {
+            if (change.getValue() == 0) {
+                character.getItems().remove(change.getKey());
+            } else {
+                character.getItems().put(change.getKey(), change.getValue());
+            }
+        }
+
+        character.getReviewStates().putAll(delta.getReviewChanges());
+
+        save.getListIdCompletedEvents().addAll(delta.getCompletedEvents());
+        save.getListIdDefeatedEnemies().addAll(delta.getDefeatedEnemies());
+        base.getLearnedWords().addAll(delta.getLearnedWords());
+        save.setSaveDate(delta.getSaveDate());
+        return save;
+    }
+
+    // Save thread
+    private void writeSlot(int slot, QuickSaveBase newBase, SaveDelta delta, Set<Long> referencedBases) {
+        try {
+            if (newBase != null) {
+                SaveFiles.writeAtomically(baseFile(newBase.getId()), codec.encode(newBase));
+            }
+            SaveFiles.writeAtomically(slotFile(slot), codec.encode(delta));
+
+            for (FileHandle file : Gdx.files.local(QUICK_DIRECTORY).list()) {
+                if (file.name().startsWith("base_") && !referencedBases.contains(baseIdOf(file))) {
+                    file.delete();
+                }
+            }
+            Gdx.app.log("AutosaveController", "Quick saved to slot " + slot + " (" + delta.size() + " changes)");
+        } catch (Exception e) {
+            Gdx.app.error("AutosaveController", "Error writing quick save: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void scanSlots() {
+        long latestSequence = 0;
+        for (int i = 0; i < RING_SIZE; i++) {
+            SaveDelta delta = readSlot(i);
+            if (delta == null) continue;
+            slotBaseIds[i] = delta.getBaseId();
+            nextSequence = Math.max(nextSequence, Math.max(delta.getSequence(), delta.getBaseId()) + 1);
+            if (delta.getSequence() > latestSequence) {
+                latestSequence = delta.getSequence();
+                nextSlot = (i + 1) % RING_SIZE;
+            }
+        }
+    }
+
+    private SaveDelta readSlot(int slot) {
+        FileHandle file = slotFile(slot);
+        if (!file.exists()) return null;
+        try {
+            return codec.decode(file.readBytes(), SaveDelta.class);
+        } catch (Exception e) {
+            Gdx.app.error("AutosaveController", "Ignoring unreadable quick save: " + file.name());
+            return null;
+        }
+    }
+
+    private long baseIdOf(FileHandle file) {
+        try {
+            return Long.parseLong(file.nameWithoutExtension().substring("base_".length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private FileHandle baseFile(long id) {
+        return Gdx.files.local(QUICK_DIRECTORY + "base_" + id + codec.getExtension());
+    }
+
+    private FileHandle slotFile(int slot) {
+        return Gdx.files.local(QUICK_DIRECTORY + "slot_" + slot + codec.getExtension());
+    }
+}
@@ -1,274 +1,178 @@
 package ctu.game.isometric.controller;
 
 import com.badlogic.gdx.Gdx;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import ctu.game.isometric.model.dialog.*;
 import ctu.game.isometric.model.game.GameState;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class DialogController {
-    private StoryData storyData;
+    // Arc of the quiz NPC's conversation
+    public static final String QUIZ_ARC = "chapter_quiz_intro";
+
+    private final StoryLibrary storyLibrary;
     private GameController gameController;
 
-    private boolean dialogActive = false;
-    private String currentArcId;
-    private String currentSceneId;
-    private int currentDialogIndex = 0;
+    private final StoryCursor cursor;
     private Runnable onDialogFinishedAction;
-    // Flag to track if we're showing choices or dialogues
-    private boolean showingChoices = false;
-
-    private List<Choice> currentChoices = new ArrayList<>();
-    private int selectedChoiceIndex = 0;
+    // Arc a dialog is waiting on; a newer startDialog replaces it
+    private CompletableFuture<StoryGraph.ArcNode> pendingArc;
     boolean performAction = false;
 
     public DialogController(GameController gameController) {
         this.gameController = gameController;
-        loadStoryData();
-    }
-
-    private void loadStoryData() {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            storyData = mapper.readValue(Gdx.files.internal("story/arc1.json").reader(), StoryData.class);
-
-            Gdx.app.log("Dialog", "Story data loaded successfully");
-        } catch (IOException e) {
-            Gdx.app.error("Dialog", "Failed to load story data", e);
-        }
+        this.storyLibrary = gameController.getStoryLibrary();
+        this.cursor = new StoryCursor(gameController.getConditionContext());
     }
 
     public void startDialog(String arcId, String sceneId) {
-        if (storyData == null) return;
+        CompletableFuture<StoryGraph.ArcNode> arc = storyLibrary.requestArc(arcId);
+        pendingArc = null;
+        if (arc.isDone()) {
+            startDialog(arc.join(), arcId, sceneId);
+            return;
+        }
 
-        Arc arc = findArc(arcId);
-        if (arc == null) return;
+        // Not prefetched in time: start once it has loaded, unless the player moved on meanwhile
+        Gdx.app.log("Dialog", "Waiting for arc " + arcId + " to load");
+        pendingArc = arc;
+        arc.thenAccept(node -> {
+            if (pendingArc != arc) return;
+            pendingArc = null;
+            if (gameController.getCurrentState() == GameState.EXPLORING && !isDialogActive()) {
+                startDialog(node, arcId, sceneId);
+            }
+        });
+    }
 
-        Scene scene = findScene(arc, sceneId);
+    private void startDialog(StoryGraph.ArcNode arc, String arcId, String sceneId) {
+        StoryGraph.SceneNode scene = arc == null ? null : arc.getScene(sceneId);
         if (scene == null) return;
-
-        currentArcId = arcId;
-        currentSceneId = sceneId;
-        currentDialogIndex = 0;
-        dialogActive = true;
-        showingChoices = false;  // Start in dialogue mode, not choice mode
-
-        // Prepare choices but don't show them yet
-        if (scene.getChoices() != null && !scene.getChoices().isEmpty()) {
-            currentChoices = scene.getChoices();
-            selectedChoiceIndex = 0;
+        if (!scene.getCondition().test(gameController.getConditionContext())) {
+            Gdx.app.log("Dialog", "Conditions not met for Arc=" + arcId + ", Scene=" + sceneId);
+            return;
         }
 
+        startDialog(scene);
         Gdx.app.log("Dialog", "Started dialog: Arc=" + arcId + ", Scene=" + sceneId);
     }
 
-    public boolean nextDialog() {
-        if (!dialogActive) return false;
+    private void startDialog(StoryGraph.SceneNode scene) {
+        // Start in dialogue mode; choices are shown after the last line
+        cursor.moveTo(scene);
+    }
 
-        // If we're already showing choices, do nothing when nextDialog is called
-        if (showingChoices) {
-            return true;
+    // Follow a choice into a scene, ending the dialog if the scene's conditions fail
+    private void enterScene(StoryGraph.SceneNode scene) {
+        if (scene.getCondition().test(gameController.getConditionContext())) {
+            startDialog(scene);
+        } else {
+            endDialog();
         }
+    }
 
-        Arc arc = findArc(currentArcId);
-        Scene scene = findScene(arc, currentSceneId);
+    public boolean nextDialog() {
+        if (!cursor.isActive()) return false;
 
-        if (scene == null || scene.getDialogues() == null) {
+        if (!cursor.advance()) {
+            System.out.println("End of dialog, no choices available.");
             endDialog(); // Use endDialog to reset the state properly
             return false;
         }
-
-        // Move to next dialog
-        currentDialogIndex++;
-
-        // If we've reached the end of the dialog
-        if (currentDialogIndex >= scene.getDialogues().size()) {
-            // If there are choices, show them
-            if (scene.getChoices() != null && !scene.getChoices().isEmpty()) {
-                showingChoices = true;  // Now switch to choice mode
-                currentChoices = scene.getChoices(); // Ensure choices are set
-                selectedChoiceIndex = 0; // Reset selected choice
-                return true;
-            } else {
-                System.out.println("End of dialog, no choices available.");
-                endDialog(); // Use endDialog to reset the state properly
-                return false;
-            }
-        }
-
         return true;
     }
 
 
     public void showSimpleMessage(String message) {
-        // Create a temporary dialog with the message
+        // A one-off scene outside the story graph holding just this message
         Dialog tempDialog = new Dialog();
         tempDialog.setText(message);
 
-        // Ensure storyData arcs are initialized
-        if (storyData.getArcs() == null) {
-            storyData.setArcs(new ArrayList<>());
-        }
-
-        // Create and add a temporary scene to story data if needed
-        if (findArc("system_messages") == null) {
-            // Create temporary arc and scene
-            Arc tempArc = new Arc();
-            tempArc.setId("system_messages");
-
-            Scene tempScene = new Scene();
-            tempScene.setId("notification");
-            List<Dialog> dialogues = new ArrayList<>();
-            dialogues.add(tempDialog);
-            tempScene.setDialogues(dialogues);
-
-            List<Scene> scenes = new ArrayList<>();
-            scenes.add(tempScene);
-            tempArc.setScenes(scenes);
-
-            storyData.getArcs().add(tempArc);
-        } else {
-            // Update existing notification scene
-            Arc arc = findArc("system_messages");
-            Scene scene = findScene(arc, "notification");
-
-            if (scene == null) {
-                scene = new Scene();
-                scene.setId("notification");
-                if (arc.getScenes() == null) {
-                    arc.setScenes(new ArrayList<>());
-                }
-                arc.getScenes().add(scene);
-            }
-
-            // Update dialog
-            List<Dialog> dialogues = new ArrayList<>();
-            dialogues.add(tempDialog);
-            scene.setDialogues(dialogues);
-        }
+        Scene tempScene = new Scene();
+        tempScene.setId("notification");
+        List<Dialog> dialogues = new ArrayList<>();
+        dialogues.add(tempDialog);
+        tempScene.setDialogues(dialogues);
 
         // Show the notification
-        startDialog("system_messages", "notification");
+        startDialog(new StoryGraph.SceneNode("system_messages", tempScene));
         performAction = true;
     }
 
 
     // After
     public void selectChoice(int index) {
-        if (!dialogActive || !showingChoices || currentChoices.isEmpty()) return;
-
-        if (index >= 0 && index < currentChoices.size()) {
-            Choice choice = currentChoices.get(index);
-
-            // Reset flags before processing the choice
-            showingChoices = false;
-
-            // Check if player has required item
-            if (choice.getRequired_item() != null) {
-                if (gameController.getCharacter().hasItem(choice.getRequired_item())) {
-                    performAction = true; // Only set to true when choice has required item
-
-                    // Move to the next scene if specified
-                    if (choice.getNext_scene() != null) {
-                        startDialog(currentArcId, choice.getNext_scene());
-                    }
-                    else endDialog();
-                } else {
-                    // If player doesn't have the required item, redirect to scene_not_enough_item
-                    startDialog(currentArcId, "scene_not_enough_item");
+        if (!cursor.isShowingChoices()) return;
+
+        if (index < 0 || index >= cursor.getChoices().size()) return;
+        StoryGraph.SceneNode scene = cursor.getScene();
+        int sceneIndex = cursor.getSceneChoiceIndex(index);
+        Choice choice = scene.getChoices().get(sceneIndex);
+        StoryGraph.SceneNode target = scene.getTarget(sceneIndex);
+
+        // Check if player has required item
+        if (choice.getRequired_item() != null) {
+            if (gameController.getCharacter().hasItem(choice.getRequired_item())) {
+                performAction = true; // Only set to true when choice has required item
+
+                // Move to the next scene if specified
+                if (target != null) {
+                    enterScene(target);
                 }
+                else endDialog();
+            } else if (scene.getNotEnoughItemScene() != null) {
+                // If player doesn't have the required item, redirect to scene_not_enough_item
+                enterScene(scene.getNotEnoughItemScene());
             } else {
-                // No item required, proceed normally
-                if (choice.getNext_scene() != null && choice.getNext_scene().equals("scene_end")) {
-                    performAction = false;
-                    startDialog(currentArcId, choice.getNext_scene());
-                }
-                else {
-                    endDialog();
-                }
+                endDialog();
+            }
+        } else {
+            // No item required, proceed normally
+            if (target != null && target.getId().equals("scene_end")) {
+                performAction = false;
+                enterScene(target);
+            }
+            else {
+                endDialog();
             }
         }
     }
 
     public void selectNextChoice() {
-        if (showingChoices && !currentChoices.isEmpty()) {
-            selectedChoiceIndex = (selectedChoiceIndex + 1) % currentChoices.size();
-        }
+        cursor.selectNext();
     }
 
     public void selectPreviousChoice() {
-        if (showingChoices && !currentChoices.isEmpty()) {
-            selectedChoiceIndex = (selectedChoiceIndex - 1 + currentChoices.size()) % currentChoices.size();
-        }
-    }
-
-    private Arc findArc(String arcId) {
-        if (storyData == null || storyData.getArcs() == null) return null;
-
-        for (Arc arc : storyData.getArcs()) {
-            if (arc.getId().equals(arcId)) {
-                return arc;
-            }
-        }
-        return null;
-    }
-
-    private Scene findScene(Arc arc, String sceneId) {
-        if (arc == null || arc.getScenes() == null) return null;
-
-        for (Scene scene : arc.getScenes()) {
-            if (scene.getId().equals(sceneId)) {
-                return scene;
-            }
-        }
-        return null;
+        cursor.selectPrevious();
     }
 
     // Getters for current dialog state
     public Dialog getCurrentDialog() {
-        if (!dialogActive || showingChoices) return null;
-
-        Arc arc = findArc(currentArcId);
-        Scene scene = findScene(arc, currentSceneId);
-
-        if (scene == null || scene.getDialogues() == null ||
-                currentDialogIndex >= scene.getDialogues().size()) {
-            return null;
-        }
-
-        return scene.getDialogues().get(currentDialogIndex);
+        return cursor.getDialog();
     }
 
     public List<Choice> getCurrentChoices() {
-        return showingChoices ? currentChoices : new ArrayList<>();
+        return cursor.getChoices();
     }
 
     public int getSelectedChoiceIndex() {
-        return selectedChoiceIndex;
+        return cursor.getSelectedChoice();
     }
 
     public boolean isDialogActive() {
-        return dialogActive;
+        return cursor.isActive();
     }
 
     public boolean hasChoices() {
-        return showingChoices && !currentChoices.isEmpty();
+        return cursor.isShowingChoices() && !cursor.getChoices().isEmpty();
     }
 
 
 
     public void endDialog() {
-        dialogActive = false;
-        showingChoices = false;
-        selectedChoiceIndex = 0;
-        currentDialogIndex = 0;
-        currentArcId = null;
-        currentSceneId = null;
+        cursor.clear();
 
         gameController.setState(GameState.EXPLORING);
 
@@ -3,26 +3,77 @@ package ctu.game.isometric.controller;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import ctu.game.isometric.util.TimerService;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Particle effects for the map and the combat screen. Effects and their bookkeeping are both
+ * pooled, so spawning allocates nothing once the pools are warm.
+ *
+ * Cost is kept in check three ways. A global particle budget: when the live particle count
+ * goes over it, every effect's emission is scaled down until it fits, then eased back up.
+ * Level of detail: the more world each screen pixel shows (camera zoomed out), the fewer
+ * particles are emitted. Culling: effects outside the view the batch last drew with are
+ * not drawn and are only stepped a few times a second.
+ */
 public class EffectManager implements Disposable {
-    private final ObjectMap<String, ParticleEffectPool> effectPools = new ObjectMap<>();
-    private final Array<ParticleEffectPool.PooledEffect> activeEffects = new Array<>();
-    private final ObjectMap<ParticleEffectPool.PooledEffect, EffectData> effectDataMap = new ObjectMap<>();
+    private static final int DEFAULT_PARTICLE_BUDGET = 3000;
+    // Full emission up to this many world units per pixel, then fewer particles the further out
+    private static final float FULL_DETAIL_ZOOM = 0.75f;
+    private static final float MIN_DETAIL = 0.25f;
+    private static final float MIN_BUDGET_SCALE = 0.1f;
+    // Share of the gap to the target budget scale closed per second; cutting back is quicker
+    private static final float BUDGET_CUT_RATE = 2f;
+    private static final float BUDGET_RECOVERY_RATE = 0.5f;
+    // Emission is only rewritten when the wanted scale moves this much
+    private static final float RESCALE_STEP = 0.05f;
+    private static final float CULL_MARGIN = 64f;
+    private static final float CULLED_UPDATE_INTERVAL = 0.25f;
+
+    private final ObjectMap<String, EffectType> effectTypes = new ObjectMap<>();
+    private final Array<ActiveEffect> activeEffects = new Array<>();
+    private final Pool<ActiveEffect> activeEffectPool = new Pool<ActiveEffect>() {
+        @Override
+        protected ActiveEffect newObject() {
+            return new ActiveEffect();
+        }
+    };
     private final Array<ScheduledEffect> scheduledEffects = new Array<>();
+    private final TimerService timers;
     private final String imageDir;
     Map<String, Sound> effectSound;
 
-    public EffectManager(String imageDir) {
+    private int particleBudget = DEFAULT_PARTICLE_BUDGET;
+    private int activeParticles;
+    private float budgetScale = 1f;
+
+    // View of the last render, in the coordinates effects were spawned in
+    private final Rectangle view = new Rectangle();
+    private final Rectangle cullArea = new Rectangle();
+    private final Matrix4 inverseProjection = new Matrix4();
+    private final Vector3 corner = new Vector3();
+    private boolean viewKnown;
+
+    public EffectManager(String imageDir, TimerService timers) {
         this.imageDir = imageDir;
+        this.timers = timers;
         this.effectSound = new HashMap<>();
         this.loadSoundEffects();
     }
@@ -32,15 +83,22 @@ public class EffectManager implements Disposable {
     }
 
     public void loadSound(String effectName, String soundDir) {
-        Sound sound = Gdx.audio.newSound(Gdx.files.internal(soundDir + "/" + effectName + ".ogg"));
+        FileHandle file = Gdx.files.internal(soundDir + "/" + effectName + ".ogg");
+        if (!file.exists()) return; // Ambient effects are silent
+        Sound sound = Gdx.audio.newSound(file);
         effectSound.put(effectName, sound);
     }
 
     public void loadEffect(String effectName, String effectPath) {
+        loadEffect(effectName, effectPath, 5, 30);
+    }
+
+    // Pool keeps up to maxPooled finished instances for reuse
+    public void loadEffect(String effectName, String effectPath, int initialPooled, int maxPooled) {
         try {
             ParticleEffect prototype = new ParticleEffect();
             prototype.load(Gdx.files.internal(effectPath), Gdx.files.internal(imageDir));
-            effectPools.put(effectName, new ParticleEffectPool(prototype, 5, 30));
+            effectTypes.put(effectName, new EffectType(effectName, prototype, initialPooled, maxPooled));
             loadSound(effectName, "effects/sound");
         } catch (Exception e) {
             Gdx.app.error("EffectManager", "Error loading effect: " + effectPath, e);
@@ -87,35 +145,98 @@ public class EffectManager implements Disposable {
 
     // Spawn effect with specific duration
     public void spawnEffect(String effectName, float x, float y, float duration) {
-        ParticleEffectPool pool = effectPools.get(effectName);
-        if (pool == null) {
-            Gdx.app.error("EffectManager", "Effect not found: " + effectName);
-            return;
+        ActiveEffect active = obtain(effectName, duration);
+        if (active == null) return;
+        active.effect.setPosition(x, y);
+        active.effect.start();
+        activeEffects.add(active);
+    }
+
+    // Spawn an effect stretched across the whole view that follows the camera, e.g. rain.
+    // Its spawn area is widened to the view and emission raised to match, before LOD and budget.
+    public void spawnViewEffect(String effectName, float duration) {
+        spawnViewEffect(effectName, duration, 1f);
+    }
+
+    // Keep one view effect of this name running at the given strength (share of its full
+    // emission); 0 lets it finish. Cheap to call every frame.
+    public void setViewEffect(String effectName, float intensity) {
+        ActiveEffect active = findViewEffect(effectName);
+        if (intensity <= 0) {
+            if (active != null) {
+                active.effect.allowCompletion();
+                active.released = true;
+            }
+        } else if (active == null) {
+            spawnViewEffect(effectName, -1, intensity);
+        } else if (Math.abs(active.intensity - intensity) > RESCALE_STEP) {
+            active.intensity = intensity;
+            applyEmission(active, active.emissionScale);
+        }
+    }
+
+    private void spawnViewEffect(String effectName, float duration, float intensity) {
+        ActiveEffect active = obtain(effectName, duration);
+        if (active == null) return;
+        active.coversView = true;
+        active.intensity = intensity;
+        fitToView(active);
+        active.effect.start();
+        activeEffects.add(active);
+    }
+
+    // Remove every view effect right away, without letting its particles finish
+    public void clearViewEffects() {
+        for (int i = activeEffects.size - 1; i >= 0; i--) {
+            ActiveEffect active = activeEffects.get(i);
+            if (active.coversView) {
+                activeEffects.removeIndex(i);
+                activeEffectPool.free(active);
+            }
         }
+    }
 
-        ParticleEffectPool.PooledEffect effect = pool.obtain();
-        effect.setPosition(x, y);
-        effect.start();
-        activeEffects.add(effect);
-        effectDataMap.put(effect, new EffectData(duration));
+    private ActiveEffect findViewEffect(String effectName) {
+        for (ActiveEffect active : activeEffects) {
+            if (active.coversView && !active.released && active.type.name.equals(effectName)) return active;
+        }
+        return null;
     }
 
+    private ActiveEffect obtain(String effectName, float duration) {
+        EffectType type = effectTypes.get(effectName);
+        if (type == null) {
+            Gdx.app.error("EffectManager", "Effect not found: " + effectName);
+            return null;
+        }
 
+        ActiveEffect active = activeEffectPool.obtain();
+        active.type = type;
+        active.effect = type.pool.obtain();
+        active.duration = duration;
+        // Leave additive blending on between effects; render() restores it once at the end
+        active.effect.setEmittersCleanUpBlendFunction(false);
+        applyEmission(active, levelOfDetail() * budgetScale);
+        return active;
+    }
 
     // Schedule effect to appear after delay
-    public void scheduleEffect(String effectName, float x, float y, float delay) {
-        scheduleEffect(effectName, x, y, delay, -1);
+    public TimerService.Handle scheduleEffect(String effectName, float x, float y, float delay) {
+        return scheduleEffect(effectName, x, y, delay, -1);
     }
 
-    // Schedule effect with delay and duration
-    public void scheduleEffect(String effectName, float x, float y, float delay, float duration) {
-        scheduledEffects.add(new ScheduledEffect(effectName, x, y, delay, duration));
+    // Schedule effect with delay and duration; cancel the handle to drop it
+    public TimerService.Handle scheduleEffect(String effectName, float x, float y, float delay, float duration) {
+        ScheduledEffect scheduled = new ScheduledEffect(effectName, x, y, duration);
+        scheduled.handle = timers.schedule(scheduled, delay);
+        scheduledEffects.add(scheduled);
+        return scheduled.handle;
     }
 
     // Stop all active effects
     public void stopAllEffects() {
-        for (ParticleEffectPool.PooledEffect effect : activeEffects) {
-            effect.allowCompletion();
+        for (ActiveEffect active : activeEffects) {
+            active.effect.allowCompletion();
         }
     }
 
@@ -124,7 +245,8 @@ public class EffectManager implements Disposable {
         float minDist = Float.MAX_VALUE;
         ParticleEffectPool.PooledEffect targetEffect = null;
 
-        for (ParticleEffectPool.PooledEffect effect : activeEffects) {
+        for (ActiveEffect active : activeEffects) {
+            ParticleEffectPool.PooledEffect effect = active.effect;
             float dx = effect.getEmitters().first().getX() - x;
             float dy = effect.getEmitters().first().getY() - y;
             float dist = dx * dx + dy * dy;
@@ -141,88 +263,287 @@ public class EffectManager implements Disposable {
     }
 
     public void update(float delta) {
-        // Process scheduled effects
-        for (int i = scheduledEffects.size - 1; i >= 0; i--) {
-            ScheduledEffect scheduled = scheduledEffects.get(i);
-            scheduled.delay -= delta;
-
-            if (scheduled.delay <= 0) {
-                spawnEffect(scheduled.effectName, scheduled.x, scheduled.y, scheduled.duration);
-                scheduledEffects.removeIndex(i);
-            }
-        }
+        float emissionScale = levelOfDetail() * budgetScale;
+        int particles = 0;
 
-        // Update active effects
         for (int i = activeEffects.size - 1; i >= 0; i--) {
-            ParticleEffectPool.PooledEffect effect = activeEffects.get(i);
-            effect.update(delta);
+            ActiveEffect active = activeEffects.get(i);
+            ParticleEffectPool.PooledEffect effect = active.effect;
+            if (active.coversView) fitToView(active);
+            if (Math.abs(active.emissionScale - emissionScale) > RESCALE_STEP) {
+                applyEmission(active, emissionScale);
+            }
 
-            EffectData data = effectDataMap.get(effect);
-            if (data.duration > 0) {
-                data.timeActive += delta;
-                if (data.timeActive >= data.duration) {
+            boolean expired = false;
+            if (active.duration > 0) {
+                active.timeActive += delta;
+                if (active.timeActive >= active.duration) {
                     effect.allowCompletion();
+                    expired = true;
                 }
             }
 
-            if (effect.isComplete()) {
+            // Off-screen effects are stepped in larger chunks so they stay alive cheaply
+            boolean visible = isVisible(active);
+            active.pendingDelta += delta;
+            if (visible || active.pendingDelta >= CULLED_UPDATE_INTERVAL) {
+                effect.update(active.pendingDelta);
+                active.pendingDelta = 0;
+                updateBounds(active);
+            }
+
+            // Nobody sees an expired off-screen effect finish, so drop it right away
+            if (effect.isComplete() || (expired && !visible)) {
                 activeEffects.removeIndex(i);
-                effectDataMap.remove(effect);
-                effect.free();
+                activeEffectPool.free(active);
+                continue;
+            }
+
+            for (ParticleEmitter emitter : effect.getEmitters()) {
+                particles += emitter.getActiveCount();
             }
         }
+
+        activeParticles = particles;
+        budgetScale = nextBudgetScale(budgetScale, particles, particleBudget, delta);
+    }
+
+    /**
+     * Eases the budget scale toward the one that would just fit the budget. The live count was
+     * produced at the current scale, so dividing it out gives the unscaled load and the target
+     * follows from that once, instead of compounding the correction every frame.
+     */
+    static float nextBudgetScale(float scale, int particles, int budget, float delta) {
+        float target = 1f;
+        if (particles > 0) {
+            float unscaled = particles / scale;
+            target = MathUtils.clamp(budget / unscaled, MIN_BUDGET_SCALE, 1f);
+        }
+        float rate = target < scale ? BUDGET_CUT_RATE : BUDGET_RECOVERY_RATE;
+        return scale + (target - scale) * Math.min(1f, rate * delta);
     }
 
     public void render(SpriteBatch batch) {
-        if (batch.isDrawing()) {
-            for (ParticleEffectPool.PooledEffect effect : activeEffects) {
-                effect.draw(batch);
+        if (!batch.isDrawing()) return;
+        captureView(batch);
+
+        boolean drawn = false;
+        for (ActiveEffect active : activeEffects) {
+            if (!isVisible(active)) continue;
+            active.effect.draw(batch);
+            drawn = true;
+        }
+        if (drawn) {
+            batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        }
+    }
+
+    // World rectangle the batch's projection shows, used for culling and detail until the next render
+    private void captureView(SpriteBatch batch) {
+        inverseProjection.set(batch.getProjectionMatrix()).inv();
+        corner.set(-1, -1, 0).prj(inverseProjection);
+        float minX = corner.x, minY = corner.y;
+        corner.set(1, 1, 0).prj(inverseProjection);
+        view.set(minX, minY, corner.x - minX, corner.y - minY);
+        cullArea.set(view.x - CULL_MARGIN, view.y - CULL_MARGIN,
+                view.width + 2 * CULL_MARGIN, view.height + 2 * CULL_MARGIN);
+        viewKnown = true;
+    }
+
+    private float levelOfDetail() {
+        if (!viewKnown || Gdx.graphics == null || Gdx.graphics.getWidth() == 0) return 1f;
+        float zoom = view.width / Gdx.graphics.getWidth();
+        return MathUtils.clamp(FULL_DETAIL_ZOOM / zoom, MIN_DETAIL, 1f);
+    }
+
+    private boolean isVisible(ActiveEffect active) {
+        return !viewKnown || active.coversView || !active.hasBounds || active.bounds.overlaps(cullArea);
+    }
+
+    // Particle bounds plus the emitter itself, so an effect still emitting is judged by its source
+    private void updateBounds(ActiveEffect active) {
+        ParticleEmitter emitter = active.effect.getEmitters().first();
+        active.bounds.set(emitter.getX(), emitter.getY(), 0, 0);
+        BoundingBox box = active.effect.getBoundingBox();
+        if (box.isValid()) {
+            active.bounds.merge(box.min.x, box.min.y);
+            active.bounds.merge(box.max.x, box.max.y);
+        }
+        active.hasBounds = true;
+    }
+
+    // Line emitters become a line along the top of the view, area emitters cover it
+    private void fitToView(ActiveEffect active) {
+        float left = viewKnown ? view.x : 0;
+        float bottom = viewKnown ? view.y : 0;
+        float width = viewKnown ? view.width : Gdx.graphics.getWidth();
+        float height = viewKnown ? view.height : Gdx.graphics.getHeight();
+
+        EffectType type = active.type;
+        Array<ParticleEmitter> emitters = active.effect.getEmitters();
+        float areaScale = 1f;
+        for (int i = 0; i < emitters.size; i++) {
+            ParticleEmitter emitter = emitters.get(i);
+            ParticleEmitter.SpawnShape shape = emitter.getSpawnShape().getShape();
+            float scaleX = type.spawnWidths[i] > 0 ? width / type.spawnWidths[i] : 1f;
+            float scaleY = type.spawnHeights[i] > 0 ? height / type.spawnHeights[i] : 1f;
+            if (shape == ParticleEmitter.SpawnShape.line) {
+                emitter.getSpawnWidth().setHigh(type.spawnWidthMins[i] * scaleX, type.spawnWidths[i] * scaleX);
+                emitter.setPosition(left, bottom + height);
+                if (i == 0) areaScale = scaleX;
+            } else {
+                if (shape != ParticleEmitter.SpawnShape.point) {
+                    emitter.getSpawnWidth().setHigh(type.spawnWidthMins[i] * scaleX, type.spawnWidths[i] * scaleX);
+                    emitter.getSpawnHeight().setHigh(type.spawnHeightMins[i] * scaleY, type.spawnHeights[i] * scaleY);
+                    if (i == 0) areaScale = scaleX * scaleY;
+                }
+                emitter.setPosition(left + width / 2, bottom + height / 2);
             }
         }
+
+        // Keep the particle density of the effect file however large the view is
+        if (areaScale != active.areaScale) {
+            active.areaScale = areaScale;
+            applyEmission(active, active.emissionScale);
+        }
+    }
+
+    // Emission from the effect file, times the given scale, the effect's area and intensity
+    private void applyEmission(ActiveEffect active, float scale) {
+        active.emissionScale = scale;
+        float factor = scale * active.areaScale * active.intensity;
+        Array<ParticleEmitter> emitters = active.effect.getEmitters();
+        for (int i = 0; i < emitters.size; i++) {
+            float[] base = active.type.emissions[i];
+            ParticleEmitter.ScaledNumericValue emission = emitters.get(i).getEmission();
+            emission.setLow(base[0] * factor, base[1] * factor);
+            emission.setHigh(base[2] * factor, base[3] * factor);
+        }
+    }
+
+    public int getParticleBudget() {
+        return particleBudget;
+    }
+
+    public void setParticleBudget(int particleBudget) {
+        this.particleBudget = Math.max(1, particleBudget);
+    }
+
+    public int getActiveParticleCount() {
+        return activeParticles;
+    }
+
+    public int getActiveEffectCount() {
+        return activeEffects.size;
     }
 
     @Override
     public void dispose() {
-        for (ParticleEffectPool.PooledEffect effect : activeEffects) {
-            effect.free();
-        }
+        activeEffectPool.freeAll(activeEffects);
         activeEffects.clear();
-        effectDataMap.clear();
+        for (ScheduledEffect scheduled : scheduledEffects) {
+            scheduled.handle.cancel();
+        }
         scheduledEffects.clear();
 
         // Clear all effect pools
-        for (ParticleEffectPool pool : effectPools.values()) {
-            pool.clear();
+        for (EffectType type : effectTypes.values()) {
+            type.pool.clear();
         }
-        effectPools.clear();
+        effectTypes.clear();
         for (Sound sound : effectSound.values()) {
             sound.dispose();
         }
         effectSound.clear();
     }
 
-    // Helper classes for tracking effect data
-    private static class EffectData {
-        float duration;
-        float timeActive = 0;
+    // A loaded effect file: its pool and the emitter values that LOD and view fitting scale from
+    private static class EffectType {
+        final String name;
+        final ParticleEffectPool pool;
+        final float[][] emissions;
+        final float[] spawnWidths, spawnWidthMins;
+        final float[] spawnHeights, spawnHeightMins;
+
+        EffectType(String name, ParticleEffect prototype, int initialPooled, int maxPooled) {
+            this.name = name;
+            this.pool = new ParticleEffectPool(prototype, initialPooled, maxPooled);
+            Array<ParticleEmitter> emitters = prototype.getEmitters();
+            this.emissions = new float[emitters.size][];
+            this.spawnWidths = new float[emitters.size];
+            this.spawnWidthMins = new float[emitters.size];
+            this.spawnHeights = new float[emitters.size];
+            this.spawnHeightMins = new float[emitters.size];
+            for (int i = 0; i < emitters.size; i++) {
+                ParticleEmitter emitter = emitters.get(i);
+                ParticleEmitter.ScaledNumericValue emission = emitter.getEmission();
+                emissions[i] = new float[]{emission.getLowMin(), emission.getLowMax(),
+                        emission.getHighMin(), emission.getHighMax()};
+                spawnWidths[i] = emitter.getSpawnWidth().getHighMax();
+                spawnWidthMins[i] = emitter.getSpawnWidth().getHighMin();
+                spawnHeights[i] = emitter.getSpawnHeight().getHighMax();
+                spawnHeightMins[i] = emitter.getSpawnHeight().getHighMin();
+            }
+        }
+    }
 
-        EffectData(float duration) {
-            this.duration = duration;
+    // Per-spawn bookkeeping, pooled alongside the effect it tracks
+    private static class ActiveEffect implements Pool.Poolable {
+        EffectType type;
+        ParticleEffectPool.PooledEffect effect;
+        float duration;
+        float timeActive;
+        float pendingDelta;
+        float emissionScale = 1f;
+        float areaScale = 1f;
+        float intensity = 1f;
+        boolean coversView;
+        boolean released;
+        boolean hasBounds;
+        final Rectangle bounds = new Rectangle();
+
+        @Override
+        public void reset() {
+            if (effect != null) {
+                // Pooled instances are shared per type, so put the spawn area back before returning it
+                Array<ParticleEmitter> emitters = effect.getEmitters();
+                for (int i = 0; i < emitters.size; i++) {
+                    emitters.get(i).getSpawnWidth().setHigh(type.spawnWidthMins[i], type.spawnWidths[i]);
+                    emitters.get(i).getSpawnHeight().setHigh(type.spawnHeightMins[i], type.spawnHeights[i]);
+                }
+                effect.free();
+            }
+            type = null;
+            effect = null;
+            duration = 0;
+            timeActive = 0;
+            pendingDelta = 0;
+            emissionScale = 1f;
+            areaScale = 1f;
+            intensity = 1f;
+            coversView = false;
+            released = false;
+            hasBounds = false;
         }
     }
 
-    private static class ScheduledEffect {
+    private class ScheduledEffect implements Runnable {
         String effectName;
         float x, y;
-        float delay;
         float duration;
+        TimerService.Handle handle;
 
-        ScheduledEffect(String effectName, float x, float y, float delay, float duration) {
+        ScheduledEffect(String effectName, float x, float y, float duration) {
             this.effectName = effectName;
             this.x = x;
             this.y = y;
-            this.delay = delay;
             this.duration = duration;
         }
+
+        @Override
+        public void run() {
+            scheduledEffects.removeValue(this, true);
+            spawnEffect(effectName, x, y, duration);
+        }
     }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.math.Rectangle;
+import ctu.game.isometric.model.condition.Condition;
+import ctu.game.isometric.model.condition.ConditionContext;
 import ctu.game.isometric.model.game.GameSave;
 import ctu.game.isometric.model.world.IsometricMap;
 import ctu.game.isometric.model.world.MapEvent;
@@ -19,6 +21,14 @@ import java.util.stream.Collectors;
 public class EventManager {
     private Map<String, MapEvent> events = new HashMap<>();
     private Map<Integer, Boolean> defeatedEnemies = new HashMap<>();
+    private ProgressListener progressListener;
+
+    // Notified when the player makes progress worth saving
+    public interface ProgressListener {
+        void onEventCompleted(String eventId);
+
+        void onEnemyDefeated(int enemyId);
+    }
 
 
 
@@ -45,7 +55,10 @@ public class EventManager {
                         boolean isOneTime = false; // Declare and initialize outside the block
                         if (props.containsKey("one_time"))
                             isOneTime = getBooleanProperty(props, "one_time", false);
-                        events.put(eventId, new MapEvent(eventId, eventType, objGridX, objGridY, props,isOneTime));
+                        MapEvent event = new MapEvent(eventId, eventType, objGridX, objGridY, props,isOneTime);
+                        // Optional gating expression, compiled once here
+                        event.setCondition(Condition.compile(getStringProperty(props, "condition", null), "event " + eventId));
+                        events.put(eventId, event);
                     }
                 }
             }
@@ -79,8 +92,8 @@ public class EventManager {
         }
     }
 
-    // Check for events at a position
-    public MapEvent checkPositionEvents(float x, float y) {
+    // Check for events at a position whose conditions hold
+    public MapEvent checkPositionEvents(float x, float y, ConditionContext conditions) {
         int gridX = (int) x;
         int gridY = (int) y;
 
@@ -91,6 +104,9 @@ public class EventManager {
                         event.isCompleted()) {
                     continue;
                 }
+                if (!event.getCondition().test(conditions)) {
+                    continue;
+                }
                 System.out.println(event.toString());
                 return event;
             }
@@ -103,12 +119,22 @@ public class EventManager {
     public void completeEvent(String eventId) {
         if (events.containsKey(eventId)) {
             events.get(eventId).setCompleted(true);
+            if (progressListener != null) {
+                progressListener.onEventCompleted(eventId);
+            }
         }
     }
 
     // Record a defeated enemy
     public void recordDefeatedEnemy(int enemyId) {
         defeatedEnemies.put(enemyId, true);
+        if (progressListener != null) {
+            progressListener.onEnemyDefeated(enemyId);
+        }
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
     }
 
     // Check if an enemy has been defeated
@@ -0,0 +1,64 @@
+package ctu.game.isometric.controller;
+
+import ctu.game.isometric.model.condition.ConditionContext;
+import ctu.game.isometric.model.entity.Character;
+
+import java.util.Map;
+
+// Conditions evaluated against the current character and event progress
+public class GameConditionContext implements ConditionContext {
+    private final GameController gameController;
+
+    public GameConditionContext(GameController gameController) {
+        this.gameController = gameController;
+    }
+
+    @Override
+    public boolean hasFlag(int flagId) {
+        return gameController.getCharacter().getFlags().has(flagId);
+    }
+
+    @Override
+    public boolean hasQuest(int questId) {
+        return gameController.getCharacter().getQuests().has(questId);
+    }
+
+    @Override
+    public int getItemCount(String item) {
+        Map<String, Integer> items = gameController.getCharacter().getItems();
+        Integer count = items == null ? null : items.get(item);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public boolean hasBuff(int statusId) {
+        return gameController.getCharacter().getBuffs().has(statusId);
+    }
+
+    @Override
+    public boolean hasDebuff(int statusId) {
+        return gameController.getCharacter().getDebuffs().has(statusId);
+    }
+
+    @Override
+    public boolean isEnemyDefeated(int enemyId) {
+        EventManager eventManager = gameController.getEventManager();
+        return eventManager != null && eventManager.isEnemyDefeated(enemyId);
+    }
+
+    @Override
+    public int getLearnedWordCount() {
+        Character character = gameController.getCharacter();
+        return character.getLearnedWords() == null ? 0 : character.getLearnedWords().size();
+    }
+
+    @Override
+    public int getHealth() {
+        return (int) gameController.getCharacter().getHealth();
+    }
+
+    @Override
+    public int getScore() {
+        return (int) gameController.getCharacter().getScore();
+    }
+}
@@ -1,5 +1,6 @@
 package ctu.game.isometric.controller;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.maps.MapLayer;
@@ -8,11 +9,12 @@ import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.math.Rectangle;
 import ctu.game.isometric.IsometricGame;
+import ctu.game.isometric.model.combat.CombatRules;
 import ctu.game.isometric.model.dictionary.Dictionary;
 import ctu.game.isometric.model.dictionary.Word;
 import ctu.game.isometric.model.game.Items;
 import ctu.game.isometric.model.world.MapEvent;
-import ctu.game.isometric.util.ItemLoader;
+import ctu.game.isometric.util.GameData;
 import ctu.game.isometric.view.menu.CharacterCreation;
 import ctu.game.isometric.view.menu.MainMenu;
 import ctu.game.isometric.view.menu.PauseMenu;
@@ -24,12 +26,16 @@ import ctu.game.isometric.model.entity.Character;
 import ctu.game.isometric.model.entity.Enemy;
 import ctu.game.isometric.model.game.GameState;
 import ctu.game.isometric.model.world.IsometricMap;
-import ctu.game.isometric.util.EnemyLoader;
+import ctu.game.isometric.util.TimerService;
 import ctu.game.isometric.util.WordNetValidator;
 import ctu.game.isometric.view.renderer.TransitionRenderer;
 import ctu.game.isometric.view.ui.ExploringUI;
 import ctu.game.isometric.view.ui.InventoryUI;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -51,6 +57,8 @@ public class GameController {
     private TransitionRenderer transitionRenderer;
     private GameplayController gameplayController;
     private LoadGameController loadGameController;
+    private GameSaveController gameSaveController;
+    private AutosaveController autosaveController;
 
     private CharacterCreation characterCreationController;
     private GameState currentState = GameState.MAIN_MENU;
@@ -61,6 +69,20 @@ public class GameController {
     private InventoryUI inventoryUI;
 
     private EffectManager effectManager;
+    private WeatherController weatherController;
+    private CombatRules combatRules;
+    private static final int STORY_PREFETCH_RADIUS = 12;
+
+    private final TimerService timerService = new TimerService();
+    private final GameConditionContext conditionContext = new GameConditionContext(this);
+    // Shared across resets so arcs already parsed stay cached
+    private final StoryLibrary storyLibrary = new StoryLibrary();
+    // -Disometric.hotReload=true watches the resource sources for changes (development only)
+    private static final String HOT_RELOAD_PROPERTY = "isometric.hotReload";
+    private static final String RESOURCE_SOURCE_DIRECTORY = "src/main/resources";
+    private HotReloadService hotReloadService;
+    private int storyPrefetchX = Integer.MIN_VALUE;
+    private int storyPrefetchY = Integer.MIN_VALUE;
     private WordNetValidator wordNetValidator;
     private QuizController quizController;
     private ctu.game.isometric.view.view.DictionaryView  dictionaryView;
@@ -75,9 +97,11 @@ public class GameController {
         this.game = game;
 
         this.map = new IsometricMap();
-        this.eventManager = new EventManager(map);
 
         this.character = new Character(10, 10);
+        this.gameSaveController = new GameSaveController();
+        this.autosaveController = new AutosaveController(this, gameSaveController);
+        this.eventManager = createEventManager();
         this.inputController = new InputController(this);
         this.dialogController = new DialogController(this);
         this.musicController = new MusicController();
@@ -85,8 +109,11 @@ public class GameController {
         this.pauseMenu = new PauseMenu(this);
 
 
-        effectManager = new EffectManager("effects");
+        effectManager = new EffectManager("effects", timerService);
         this.loadEffects();
+        this.weatherController = new WeatherController(this);
+        this.loadCombatRules();
+        this.startHotReload();
         this.settingsMenu = new SettingsMenu(this);
         this.mainMenuController = new MainMenu(this);
         this.transitionRenderer = new TransitionRenderer();
@@ -127,7 +154,7 @@ public class GameController {
             }
         }
         dictionary.setLearnedWords(learnedWordList);
-        dictionary.getNewWords().clear();
+        dictionary.clearNewWords();
 
     }
 
@@ -136,6 +163,29 @@ public class GameController {
         effectManager.loadEffect("attack", "effects/blood.p");
         effectManager.loadEffect("rain", "effects/rain.p");
         effectManager.loadEffect("treasure", "effects/demolition.p");
+        // Ambient weather, attached to map regions by WeatherController
+        effectManager.loadEffect("fog", "effects/fog.p", 1, 2);
+        effectManager.loadEffect("fireflies", "effects/fireflies.p", 1, 2);
+    }
+
+    public void loadCombatRules() {
+        try (InputStream input = Gdx.files.internal("game/combat.json").read()) {
+            combatRules = CombatRules.read(input);
+        } catch (Exception e) {
+            Gdx.app.error("GameController", "Failed to load combat rules, using defaults", e);
+            combatRules = new CombatRules();
+        }
+    }
+
+    private void startHotReload() {
+        if (!Boolean.getBoolean(HOT_RELOAD_PROPERTY)) return;
+        Path sources = Paths.get(RESOURCE_SOURCE_DIRECTORY);
+        if (!Files.isDirectory(sources)) {
+            Gdx.app.error("GameController", "Hot reload needs " + RESOURCE_SOURCE_DIRECTORY + " under the working directory");
+            return;
+        }
+        hotReloadService = new HotReloadService(this, sources);
+        hotReloadService.start();
     }
 
     public void loadCharacter(Character character) {
@@ -154,18 +204,20 @@ public class GameController {
     }
 
     public void update(float delta) {
-
+        timerService.update(delta);
+        if (character != null && isPlayState(currentState)) {
+            character.addPlayTime(delta);
+        }
 
         switch (currentState) {
             case EXPLORING:
-                if(dialogController.isDialogActive()){
-                    if (currentEvent != null && currentEvent.getEventType().equals("treasure")) {
-                        effectManager.update(delta);
-                    }
-                }
-                else {
+                weatherController.update(delta);
+                effectManager.update(delta);
+                if (!dialogController.isDialogActive()) {
                     inputController.updateCooldown(delta);
                     character.update(delta);
+                    autosaveController.update(delta);
+                    prefetchNearbyStory();
                 }
                 break;
             case CHARACTER_CREATION:
@@ -206,6 +258,20 @@ public class GameController {
 
     }
 
+    // States that count towards the save's play time; menus don't
+    private static boolean isPlayState(GameState state) {
+        switch (state) {
+            case EXPLORING:
+            case GAMEPLAY:
+            case QUIZZES:
+            case DICTIONARY:
+            case CUTSCENE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     public void startQuiz() {
         setPreviousState(currentState);
         setState(GameState.QUIZZES);
@@ -258,6 +324,11 @@ public class GameController {
             // This code executes after the fade out, during loading
             currentState = newState;
 
+            // Weather belongs to the map; drop it while anything else is on screen
+            if (oldState == GameState.EXPLORING) {
+                weatherController.clear();
+            }
+
             // Update music for the new state
             if (musicController != null) {
                 musicController.playMusicForState(newState);
@@ -297,6 +368,8 @@ public class GameController {
     // Add a method to change maps safely
     public void changeMap(IsometricMap newMap, int startX, int startY) {
         this.map = newMap;
+        autosaveController.requestAutosave();
+        storyPrefetchX = Integer.MIN_VALUE;
 
         // Ensure character is placed at a valid position on the new map
         if (isValidPosition(startX, startY)) {
@@ -307,6 +380,28 @@ public class GameController {
         }
     }
 
+    // Prefetch the story arcs of events near the player whenever they reach a new tile
+    private void prefetchNearbyStory() {
+        int x = (int) character.getGridX();
+        int y = (int) character.getGridY();
+        if (x == storyPrefetchX && y == storyPrefetchY) return;
+        storyPrefetchX = x;
+        storyPrefetchY = y;
+
+        Set<String> arcs = new HashSet<>();
+        for (MapEvent event : eventManager.getEvents().values()) {
+            if (Math.abs(event.getGridX() - x) > STORY_PREFETCH_RADIUS
+                    || Math.abs(event.getGridY() - y) > STORY_PREFETCH_RADIUS) continue;
+            if ("dialog".equals(event.getEventType()) && event.getProperties() != null) {
+                String arcId = event.getProperties().get("arc", String.class);
+                if (arcId != null) arcs.add(arcId);
+            } else if ("quiz".equals(event.getEventType())) {
+                arcs.add(DialogController.QUIZ_ARC);
+            }
+        }
+        storyLibrary.prefetch(arcs);
+    }
+
     private boolean isValidPosition(int x, int y) {
         if (map == null || map.getMapData() == null) return false;
 
@@ -365,6 +460,9 @@ public class GameController {
 
     public void setCreated(boolean created) {
         this.isCreated = created;
+        if (created && quizController != null) {
+            quizController.prepareQuizBank();
+        }
         if (created && characterCreationController != null && currentState != GameState.MAIN_MENU) {
             setState(GameState.CUTSCENE);
         }
@@ -378,9 +476,9 @@ public class GameController {
 
         // Reset map with a new instance
         this.map = new IsometricMap();
+        weatherController.clear();
 
-        this.eventManager = null;
-        this.eventManager = new EventManager(map);
+        this.eventManager = createEventManager();
 
         // Reset controllers to initial state - make sure to reset character creation controller
         if(characterCreationController == null) {
@@ -416,6 +514,14 @@ public class GameController {
 
     }
 
+    public AutosaveController getAutosaveController() {
+        return autosaveController;
+    }
+
+    public GameSaveController getGameSaveController() {
+        return gameSaveController;
+    }
+
     public LoadGameController getLoadGameController() {
         return loadGameController;
     }
@@ -431,7 +537,7 @@ public class GameController {
     private MapProperties properties;
 
     private void checkPositionEvents(float x, float y) {
-        currentEvent = eventManager.checkPositionEvents(x, y);
+        currentEvent = eventManager.checkPositionEvents(x, y, conditionContext);
 
         if (currentEvent != null) {
             hasActiveEvent = true;
@@ -482,7 +588,7 @@ public class GameController {
 
                     }
                     else{
-                        Enemy enemy = EnemyLoader.getEnemyById(enemyId);
+                        Enemy enemy = GameData.get().spawnEnemy(enemyId);
                         setState(GameState.GAMEPLAY);
                         gameplayController.activate();
                         gameplayController.startCombat(enemy);
@@ -502,7 +608,7 @@ public class GameController {
                     }
                     int amount = properties.containsKey("amount") ? (Integer) properties.get("amount") : 1;
                     if (itemId != -1) {
-                        Items item = ItemLoader.getItemById(itemId);
+                        Items item = GameData.get().getItem(itemId);
                         openTreasureWithAnimation(item, amount,currentEventX,currentEventY);
                     }
                     break;
@@ -515,7 +621,7 @@ public class GameController {
                     break;
                 case "quiz":
                         dialogController.setOnDialogFinishedAction(() -> startQuiz());
-                        dialogController.startDialog("chapter_quiz_intro", "scene_meet_npc");
+                        dialogController.startDialog(DialogController.QUIZ_ARC, "scene_meet_npc");
                     break;
                 case "cutscene":
                     String cutsceneName = properties.get("cutscene", String.class);
@@ -566,6 +672,13 @@ public class GameController {
         return font;
     }
 
+    // Every event manager reports progress to the autosaver, including the ones made on reset
+    private EventManager createEventManager() {
+        EventManager manager = new EventManager(map);
+        manager.setProgressListener(autosaveController);
+        return manager;
+    }
+
     public EventManager getEventManager() {
         return eventManager;
     }
@@ -659,6 +772,11 @@ public class GameController {
         System.out.println("Changed transition to: " + types[nextIndex]);
     }
     public void dispose() {
+        // Flush any in-flight save first
+        gameSaveController.dispose();
+        if (hotReloadService != null) {
+            hotReloadService.dispose();
+        }
         transitionRenderer.dispose();
         musicController.dispose();
         pauseMenu.dispose();
@@ -669,11 +787,15 @@ public class GameController {
         loadGameController.dispose();
         cutsceneController.dispose();
         effectManager.dispose();
+        storyLibrary.dispose();
         exploringUI.dispose();
         effectManager.dispose();
         if (quizController != null) {
             quizController.dispose();
         }
+        if (dictionary != null) {
+            dictionary.dispose();
+        }
     }
 
 
@@ -728,10 +850,34 @@ public class GameController {
         this.inventoryUI = inventoryUI;
     }
 
+    public GameConditionContext getConditionContext() {
+        return conditionContext;
+    }
+
+    public StoryLibrary getStoryLibrary() {
+        return storyLibrary;
+    }
+
+    public TimerService getTimerService() {
+        return timerService;
+    }
+
+    public CombatRules getCombatRules() {
+        return combatRules;
+    }
+
+    public void setCombatRules(CombatRules combatRules) {
+        this.combatRules = combatRules;
+    }
+
     public EffectManager getEffectManager() {
         return effectManager;
     }
 
+    public WeatherController getWeatherController() {
+        return weatherController;
+    }
+
     public void setEffectManager(EffectManager effectManager) {
         this.effectManager = effectManager;
     }
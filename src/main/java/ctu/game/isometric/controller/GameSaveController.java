@@ -2,85 +2,173 @@ package ctu.game.isometric.controller;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import ctu.game.isometric.model.dictionary.ReviewState;
 import ctu.game.isometric.model.entity.Character;
 import ctu.game.isometric.model.game.GameSave;
-
+import ctu.game.isometric.model.game.SaveSlot;
+import ctu.game.isometric.util.BinarySaveCodec;
+import ctu.game.isometric.util.JsonSaveCodec;
+import ctu.game.isometric.util.LearnedWordJournal;
+import ctu.game.isometric.util.SaveCodec;
+import ctu.game.isometric.util.SaveFiles;
+import ctu.game.isometric.util.SaveSlotIndex;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 public class GameSaveController {
     private static final String SAVE_DIRECTORY = "saves/";
     private static final int MAX_SAVE_FILES = 5;
-    private final ObjectMapper objectMapper;
+    // The previous generation of each save, kept to recover from a damaged write
+    private static final String BACKUP_SUFFIX = ".bak";
+    // -Disometric.save.format=json writes readable saves for debugging
+    private static final String SAVE_FORMAT_PROPERTY = "isometric.save.format";
+
+    // New saves use writeCodec; existing saves are read by whichever codec matches their extension
+    private final SaveCodec writeCodec;
+    private final SaveCodec jsonCodec = new JsonSaveCodec();
+    private final SaveCodec binaryCodec = new BinarySaveCodec();
+
+    // Saves are snapshotted on the game thread and written here, one at a time.
+    // A save requested while another is being written replaces any queued one.
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<SaveSnapshot> pendingSave = new AtomicReference<>();
+    private final AtomicBoolean saveInFlight = new AtomicBoolean(false);
+    // Per dictionary file, used from the save thread
+    private final Map<String, LearnedWordJournal> journals = new ConcurrentHashMap<>();
+    private final SaveSlotIndex slotIndex;
+    // Backups are restored on the save thread, before any save can touch the same slot
+    private final Future<?> backupRecovery;
 
     public GameSaveController() {
-        // Configure ObjectMapper
-        this.objectMapper = new ObjectMapper();
-        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this("json".equalsIgnoreCase(System.getProperty(SAVE_FORMAT_PROPERTY)) ? new JsonSaveCodec() : new BinarySaveCodec());
+    }
 
-        // Configure visibility to use fields directly
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
-        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    public GameSaveController(SaveCodec writeCodec) {
+        this.writeCodec = writeCodec;
+        this.slotIndex = new SaveSlotIndex(Gdx.files.local(SAVE_DIRECTORY), binaryCodec, file -> loadGame(file.name()));
 
         // Create save directory if it doesn't exist
         FileHandle dir = Gdx.files.local("saves/dictionary/");
         if (!dir.exists()) {
             dir.mkdirs();
         }
+        backupRecovery = saveExecutor.submit(this::recoverBackups);
     }
 
+    /**
+     * Captures the save on the calling (game) thread and writes it in the background.
+     * onComplete, if given, is posted back to the game thread with the result.
+     */
+    public void saveGame(Character character, String saveName, EventManager eventManager, Consumer<Boolean> onComplete) {
+        GameSave gameSave = createGameSave(character, eventManager);
 
+        List<Consumer<Boolean>> callbacks = new ArrayList<>();
+        if (onComplete != null) {
+            callbacks.add(onComplete);
+        }
+        queueSave(new SaveSnapshot(gameSave, character.getName(), saveName, character.getWordFilePath(),
+                collectLearnedWords(character), callbacks));
+    }
 
+    // Detached copy of the current game state; call on the game thread
+    GameSave createGameSave(Character character, EventManager eventManager) {
+        GameSave gameSave = new GameSave();
+        gameSave.setCharacter(createSerializableCopy(character));
+        gameSave.setSaveDate(new Date());
+        gameSave.setListIdCompletedEvents(eventManager.getListIdCompletedEvents());
+        gameSave.setListIdDefeatedEnemies(eventManager.getListIdDefeatedEnemies());
+        gameSave.setWordFilePath("saves/dictionary/" + character.getWordFilePath() + writeCodec.getExtension());
+        return gameSave;
+    }
 
+    // Run I/O on the save thread, ordered with full saves
+    void runOnSaveThread(Runnable task) {
+        saveExecutor.execute(task);
+    }
 
-    public boolean saveGame(Character character, String saveName,EventManager eventManager) {
-        try {
-            maintainSaveLimit();
-
-            // Create a serializable copy of the character
-            Character saveCharacter = createSerializableCopy(character);
+    private void queueSave(SaveSnapshot snapshot) {
+        // Coalesce with a queued (not yet started) save, keeping both callers' callbacks
+        SaveSnapshot queued;
+        SaveSnapshot merged;
+        do {
+            queued = pendingSave.get();
+            merged = queued == null ? snapshot : snapshot.mergeCallbacks(queued);
+        } while (!pendingSave.compareAndSet(queued, merged));
+
+        if (saveInFlight.compareAndSet(false, true)) {
+            saveExecutor.execute(this::drainSaves);
+        }
+    }
 
-            // Create GameSave object
-            GameSave gameSave = new GameSave();
-            gameSave.setCharacter(saveCharacter);
-            gameSave.setSaveDate(new Date());
-            gameSave.setListIdCompletedEvents(eventManager.getListIdCompletedEvents());
-            gameSave.setListIdDefeatedEnemies(eventManager.getListIdDefeatedEnemies());
-            gameSave.setWordFilePath("saves/dictionary/" + character.getWordFilePath() + ".json");
+    private void drainSaves() {
+        SaveSnapshot snapshot;
+        while ((snapshot = pendingSave.getAndSet(null)) != null) {
+            boolean saved = writeSnapshot(snapshot);
+            for (Consumer<Boolean> callback : snapshot.callbacks) {
+                Gdx.app.postRunnable(() -> callback.accept(saved));
+            }
+        }
+        saveInFlight.set(false);
 
-            // Generate file name
-            String baseName = character.getName();
-            String filename;
+        // A save queued between the last poll and clearing the flag would otherwise wait
+        if (pendingSave.get() != null && saveInFlight.compareAndSet(false, true)) {
+            saveExecutor.execute(this::drainSaves);
+        }
+    }
 
-            FileHandle existingSave = null;
-            FileHandle dir = Gdx.files.local(SAVE_DIRECTORY);
+    private boolean writeSnapshot(SaveSnapshot snapshot) {
+        try {
+            List<SaveSlot> slots = getSaveSlots();
 
             // Find existing save file with the same character name
-            for (FileHandle file : dir.list()) {
-                if (file.name().startsWith(baseName + "_") && file.name().endsWith(".json")) {
-                    existingSave = file;
+            SaveSlot existingSave = null;
+            for (SaveSlot slot : slots) {
+                if (slot.getFileName().startsWith(snapshot.characterName + "_")) {
+                    existingSave = slot;
                     break;
                 }
             }
+            if (existingSave == null) {
+                maintainSaveLimit(slots);
+            }
 
-            filename = (existingSave != null) ? existingSave.name() : saveName;
+            String filename = stripSaveExtension((existingSave != null) ? existingSave.getFileName() : snapshot.saveName);
             if (filename.isEmpty()) {
                 filename = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
             }
-            if (!filename.toLowerCase().endsWith(".json")) {
-                filename += ".json";
-            }
+            filename += writeCodec.getExtension();
 
-            // Save JSON file
             FileHandle file = Gdx.files.local(SAVE_DIRECTORY + filename);
-            file.writeString(objectMapper.writeValueAsString(gameSave), false);
+            writeWithBackup(file, writeCodec.encode(snapshot.gameSave));
 
             // Save learned words if available
-            saveLearnedWords(character);
+            if (snapshot.wordFilePath == null) {
+                Gdx.app.error("GameSaveService", "Word file path is null. Skipping save.");
+            } else {
+                LearnedWordJournal journal = journals.computeIfAbsent(snapshot.wordFilePath, name ->
+                        new LearnedWordJournal(Gdx.files.local("saves/dictionary/"), name, writeCodec, this::readWordSnapshot));
+                journal.save(snapshot.learnedWords);
+            }
+
+            // The slot was rewritten in the current format; drop the copy in the old one
+            deleteOtherFormats(file);
+            slotIndex.put(file, snapshot.gameSave);
 
             // Log success
             Gdx.app.log("GameSaveService", "Game saved to: " + file.path());
@@ -93,53 +181,103 @@ public class GameSaveController {
         }
     }
 
-    public void saveLearnedWords(Character character) {
-        try {
-            if (character.getWordFilePath() == null) {
-                Gdx.app.error("GameSaveService", "Word file path is null. Skipping save.");
-                return;
-            }
+    // Replaces the save atomically, keeping the previous file as <name>.bak
+    private void writeWithBackup(FileHandle target, byte[] data) throws IOException {
+        SaveFiles.writeAtomically(target.file().toPath(), data, backupOf(target).file().toPath());
+    }
 
-            Set<String> combinedWords = new HashSet<>();
+    private static FileHandle backupOf(FileHandle file) {
+        return file.sibling(file.name() + BACKUP_SUFFIX);
+    }
 
-            if (character.getLearnedWords() != null) {
-                combinedWords.addAll(character.getLearnedWords());
-            }
-            if (character.getNewlearneWords() != null) {
-                combinedWords.addAll(character.getNewlearneWords());
+    // Saves in either format, so switching codecs never hides existing slots
+    private FileHandle[] listSaves(FileHandle dir) {
+        awaitBackupRecovery();
+        return dir.list((parent, name) -> name.endsWith(JsonSaveCodec.EXTENSION) || name.endsWith(BinarySaveCodec.EXTENSION));
+    }
+
+    // A crash between the two renames in writeWithBackup leaves only the backup; runs on the save thread
+    private void recoverBackups() {
+        for (FileHandle backup : Gdx.files.local(SAVE_DIRECTORY).list(BACKUP_SUFFIX)) {
+            FileHandle save = backup.sibling(backup.nameWithoutExtension());
+            if (!save.exists()) {
+                Gdx.app.log("GameSaveService", "Restoring save from backup: " + save.name());
+                backup.moveTo(save);
             }
+        }
+    }
 
-            FileHandle file = Gdx.files.local("saves/dictionary/" + character.getWordFilePath() + ".json");
-            file.writeString(objectMapper.writeValueAsString(combinedWords), false);
-        } catch (Exception e) {
-            e.printStackTrace();
+    // Listing before recovery finishes would miss restored slots; only the first listing can wait
+    private void awaitBackupRecovery() {
+        try {
+            backupRecovery.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Gdx.app.error("GameSaveService", "Error restoring save backups: " + e.getCause().getMessage());
         }
     }
 
-    private void maintainSaveLimit() {
-        FileHandle dir = Gdx.files.local(SAVE_DIRECTORY);
-        FileHandle[] files = dir.list(".json");
+    private SaveCodec codecFor(String fileName) {
+        return fileName.toLowerCase().endsWith(BinarySaveCodec.EXTENSION) ? binaryCodec : jsonCodec;
+    }
 
-        if (files.length >= MAX_SAVE_FILES) {
-            // Sort files by last modified time (oldest first)
-            List<FileHandle> sortedFiles = new ArrayList<>();
-            for (FileHandle file : files) {
-                sortedFiles.add(file);
-            }
+    private Set<String> readWordSnapshot(FileHandle file) throws IOException {
+        SaveCodec codec = codecFor(file.name());
+        try (InputStream in = file.read(8192)) {
+            return codec.decode(in, codec.mapper().getTypeFactory().constructCollectionType(Set.class, String.class));
+        }
+    }
 
-            sortedFiles.sort(Comparator.comparingLong(FileHandle::lastModified));
+    private static String stripSaveExtension(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(JsonSaveCodec.EXTENSION) || lower.endsWith(BinarySaveCodec.EXTENSION)) {
+            return fileName.substring(0, fileName.lastIndexOf('.'));
+        }
+        return fileName;
+    }
 
-            // Delete oldest files until we're under the limit
-            int filesToDelete = sortedFiles.size() - MAX_SAVE_FILES + 1; // +1 for the new save
-            for (int i = 0; i < filesToDelete; i++) {
-                FileHandle oldestFile = sortedFiles.get(i);
-                Gdx.app.log("GameSaveService", "Deleting old save: " + oldestFile.name());
-                oldestFile.delete();
+    private void deleteOtherFormats(FileHandle written) {
+        for (String extension : new String[]{JsonSaveCodec.EXTENSION, BinarySaveCodec.EXTENSION}) {
+            if (!extension.equals(writeCodec.getExtension())) {
+                FileHandle stale = written.sibling(written.nameWithoutExtension() + extension);
+                if (stale.exists()) {
+                    stale.delete();
+                }
+                if (backupOf(stale).exists()) {
+                    backupOf(stale).delete();
+                }
             }
         }
     }
 
-    private Character createSerializableCopy(Character original) {
+    static Set<String> collectLearnedWords(Character character) {
+        Set<String> combinedWords = new HashSet<>();
+
+        if (character.getLearnedWords() != null) {
+            combinedWords.addAll(character.getLearnedWords());
+        }
+        if (character.getNewlearneWords() != null) {
+            combinedWords.addAll(character.getNewlearneWords());
+        }
+        return combinedWords;
+    }
+
+    // slots are newest first, as returned by the index
+    private void maintainSaveLimit(List<SaveSlot> slots) {
+        // Delete oldest saves until we're under the limit
+        int filesToDelete = slots.size() - MAX_SAVE_FILES + 1; // +1 for the new save
+        for (int i = 0; i < filesToDelete; i++) {
+            SaveSlot oldest = slots.get(slots.size() - 1 - i);
+            Gdx.app.log("GameSaveService", "Deleting old save: " + oldest.getFileName());
+            FileHandle oldestFile = Gdx.files.local(SAVE_DIRECTORY + oldest.getFileName());
+            oldestFile.delete();
+            backupOf(oldestFile).delete();
+            slotIndex.remove(oldest.getFileName());
+        }
+    }
+
+    static Character createSerializableCopy(Character original) {
         Character copy = new Character();
 
         // Copy basic properties
@@ -156,34 +294,30 @@ public class GameSaveController {
         copy.setTargetY(original.getTargetY());
         copy.setDirection(original.getDirection());
         copy.setScore(original.getScore());
+        copy.setPlayTime(original.getPlayTime());
         // Copy any other essential character data
         // (Items, stats, quests, etc. - add as needed)
 
-        if (original.getFlags() != null) {
-            copy.setFlags(new ArrayList<>(original.getFlags()));
-        }
-
-        // Copy quests if present
-        if (original.getQuests() != null) {
-            copy.setQuests(new ArrayList<>(original.getQuests()));
-        }
+        // Flag, quest and status sets are bitsets, so each copy is one array clone
+        copy.setFlags(original.getFlags().copy());
+        copy.setQuests(original.getQuests().copy());
+        copy.setBuffs(original.getBuffs().copy());
+        copy.setDebuffs(original.getDebuffs().copy());
 
         // Copy items if present
         if (original.getItems() != null) {
             copy.setItems(new HashMap<>(original.getItems()));
         }
 
-        // Copy status effects if present
-        if (original.getStatus() != null) {
-            Map<String, List<String>> statusCopy = new HashMap<>();
-            for (Map.Entry<String, List<String>> entry : original.getStatus().entrySet()) {
-                statusCopy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
-            }
-            copy.setStatus(statusCopy);
-        }
-
         copy.setWordFilePath(original.getWordFilePath());
 
+        // Review states are mutated by the quiz scheduler, so copy each one
+        Map<String, ReviewState> reviewCopy = new HashMap<>();
+        for (Map.Entry<String, ReviewState> entry : original.getReviewStates().entrySet()) {
+            reviewCopy.put(entry.getKey(), new ReviewState(entry.getValue()));
+        }
+        copy.setReviewStates(reviewCopy);
+
 
         return copy;
     }
@@ -197,14 +331,12 @@ public class GameSaveController {
 
             FileHandle file = Gdx.files.local(fileName);
 
-            if (!file.exists()) {
+            if (!file.exists() && !LearnedWordJournal.journalFile(file.parent(), file.nameWithoutExtension()).exists()) {
                 Gdx.app.log("GameSaveService", "Dictionary file does not exist: " + file.path());
                 return new HashSet<>();
             }
 
-            String json = file.readString();
-            Set<String> learnedWords = objectMapper.readValue(json,
-                    objectMapper.getTypeFactory().constructCollectionType(Set.class, String.class));
+            Set<String> learnedWords = LearnedWordJournal.load(file, this::readWordSnapshot);
 
             Gdx.app.log("GameSaveService", "Loaded " + learnedWords.size() + " words from dictionary");
             return learnedWords;
@@ -219,36 +351,73 @@ public class GameSaveController {
         if (filename == null || filename.isEmpty()) {
             throw new IllegalArgumentException("Filename cannot be null or empty");
         }
-        try {
-            FileHandle file = Gdx.files.local(SAVE_DIRECTORY + filename);
-            String json = file.readString();
-            return objectMapper.readValue(json, GameSave.class);
+        FileHandle file = Gdx.files.local(SAVE_DIRECTORY + filename);
+        GameSave save = readSave(file, filename);
+        if (save == null && backupOf(file).exists()) {
+            // Damaged or truncated; fall back to the previous generation
+            save = readSave(backupOf(file), filename);
+            if (save != null) {
+                Gdx.app.log("GameSaveService", "Recovered " + filename + " from previous save");
+            }
+        }
+        return save;
+    }
+
+    private GameSave readSave(FileHandle file, String filename) {
+        try (InputStream in = file.read(8192)) {
+            return codecFor(filename).decode(in, GameSave.class);
         } catch (Exception e) {
-            Gdx.app.error("GameSaveService", "Error loading game: " + e.getMessage());
+            Gdx.app.error("GameSaveService", "Error loading game: " + file.name() + ": " + e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
 
+    public String getSaveExtension() {
+        return writeCodec.getExtension();
+    }
+
+    // Slot summaries from the save index, newest first; no save file is opened unless the index is stale
+    public List<SaveSlot> getSaveSlots() {
+        return slotIndex.getSlots(listSaves(Gdx.files.local(SAVE_DIRECTORY)));
+    }
+
     public String[] getSaveFiles() {
-        FileHandle dir = Gdx.files.local(SAVE_DIRECTORY);
-        FileHandle[] files = dir.list(".json");
-        String[] filenames = new String[files.length];
-        for (int i = 0; i < files.length; i++) {
-            filenames[i] = files[i].name();
+        List<SaveSlot> slots = getSaveSlots();
+        String[] filenames = new String[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            filenames[i] = slots.get(i).getFileName();
         }
         return filenames;
     }
 
+    // Let a queued or running save finish before the game exits
+    public void dispose() {
+        saveExecutor.shutdown();
+        try {
+            if (!saveExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                Gdx.app.error("GameSaveService", "Timed out waiting for pending save");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public boolean deleteSave(String fileName) {
         try {
             FileHandle file = Gdx.files.local("saves/" + fileName);
-            String name = fileName.split("_")[0] + "_dictionary.json";
-            FileHandle dic = Gdx.files.local("saves/dictionary/" + name);
+            String name = fileName.split("_")[0] + "_dictionary";
             if (file.exists()) {
                 file.delete();
-                if (dic.exists()) {
-                    dic.delete();
+                backupOf(file).delete();
+                slotIndex.remove(fileName);
+                journals.remove(name);
+                for (String extension : new String[]{JsonSaveCodec.EXTENSION, BinarySaveCodec.EXTENSION,
+                        LearnedWordJournal.JOURNAL_EXTENSION}) {
+                    FileHandle dic = Gdx.files.local("saves/dictionary/" + name + extension);
+                    if (dic.exists()) {
+                        dic.delete();
+                    }
                 }
                 return true;
             }
@@ -259,4 +428,30 @@ public class GameSaveController {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    // Immutable save captured on the game thread
+    private static final class SaveSnapshot {
+        final GameSave gameSave;
+        final String characterName;
+        final String saveName;
+        final String wordFilePath;
+        final Set<String> learnedWords;
+        final List<Consumer<Boolean>> callbacks;
+
+        SaveSnapshot(GameSave gameSave, String characterName, String saveName, String wordFilePath,
+                     Set<String> learnedWords, List<Consumer<Boolean>> callbacks) {
+            this.gameSave = gameSave;
+            this.characterName = characterName;
+            this.saveName = saveName;
+            this.wordFilePath = wordFilePath;
+            this.learnedWords = learnedWords;
+            this.callbacks = callbacks;
+        }
+
+        SaveSnapshot mergeCallbacks(SaveSnapshot superseded) {
+            List<Consumer<Boolean>> merged = new ArrayList<>(superseded.callbacks);
+            merged.addAll(callbacks);
+            return new SaveSnapshot(gameSave, characterName, saveName, wordFilePath, learnedWords, merged);
+        }
+    }
+}
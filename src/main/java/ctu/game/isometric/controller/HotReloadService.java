@@ -0,0 +1,124 @@
+package ctu.game.isometric.controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import ctu.game.isometric.model.combat.CombatRules;
+import ctu.game.isometric.util.GameData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Development hot reload. Watches the game data and story folders under the resource source
+ * directory and re-reads a JSON file as soon as it is saved, so balancing and writing don't
+ * need a restart. Parsing happens on the watcher thread (story arcs on the story loader);
+ * only the finished definitions are swapped in, so the game picks them up on the next frame.
+ *
+ * Off unless the game is started with -Disometric.hotReload=true from the project root.
+ */
+public class HotReloadService {
+    private static final String[] WATCHED_DIRECTORIES = {"game", "story", "story/arcs"};
+    private static final String COMBAT_RULES_FILE = "game/combat.json";
+    // Editors often write a file in several steps; wait this long for them to settle
+    private static final long SETTLE_MILLIS = 150;
+
+    private final GameController gameController;
+    private final Path root;
+    private WatchService watcher;
+    private Thread thread;
+
+    public HotReloadService(GameController gameController, Path root) {
+        this.gameController = gameController;
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    public void start() {
+        try {
+            watcher = FileSystems.getDefault().newWatchService();
+            for (String directory : WATCHED_DIRECTORIES) {
+                Path path = root.resolve(directory);
+                if (Files.isDirectory(path)) {
+                    path.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                }
+            }
+        } catch (IOException e) {
+            Gdx.app.error("HotReloadService", "Could not watch " + root, e);
+            return;
+        }
+
+        thread = new Thread(this::watch, "hot-reload");
+        thread.setDaemon(true);
+        thread.start();
+        Gdx.app.log("HotReloadService", "Watching " + root + " for data and story changes");
+    }
+
+    public void dispose() {
+        if (watcher == null) return;
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            Gdx.app.error("HotReloadService", "Failed to close file watcher", e);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                Set<String> changed = new LinkedHashSet<>();
+                collect(key, changed);
+
+                // Gather the rest of a burst of events before reloading anything
+                while ((key = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed);
+                }
+                for (String file : changed) {
+                    reload(file);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    private void collect(WatchKey key, Set<String> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+            Path file = directory.resolve((Path) event.context());
+            if (file.toString().endsWith(".json") && Files.isRegularFile(file)) {
+                // Internal-style path, e.g. "story/arcs/chapter_01.json"
+                changed.add(root.relativize(file).toString().replace('\\', '/'));
+            }
+        }
+        key.reset();
+    }
+
+    private void reload(String file) {
+        FileHandle source = Gdx.files.absolute(root.resolve(file).toString());
+        if (GameData.isDataFile(file)) {
+            GameData.reload(file, source);
+        } else if (COMBAT_RULES_FILE.equals(file)) {
+            try (InputStream input = source.read()) {
+                CombatRules rules = CombatRules.read(input);
+                Gdx.app.postRunnable(() -> gameController.setCombatRules(rules));
+                Gdx.app.log("HotReloadService", "Reloaded " + file + "; applies from the next battle");
+            } catch (Exception e) {
+                Gdx.app.error("HotReloadService", "Failed to reload " + file + ", keeping the current rules", e);
+            }
+        } else if (file.startsWith("story/")) {
+            Gdx.app.postRunnable(() -> gameController.getStoryLibrary().reload(file, source));
+        }
+    }
+}
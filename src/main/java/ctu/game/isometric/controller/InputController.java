@@ -224,6 +224,8 @@ public class InputController extends InputAdapter {
             }
             case Keys.ESCAPE -> gameController.setState(GameState.MENU);
             case Keys.TAB -> gameController.getExploringUI().toggleUI();
+            case Keys.F5 -> gameController.getAutosaveController().quickSave();
+            case Keys.F9 -> gameController.getAutosaveController().loadLatest();
             case Keys.I -> { // Toggle inventory
                 if (gameController.getInventoryUI() != null) {
                     if (gameController.getInventoryUI().isVisible()) {
@@ -11,8 +11,13 @@ import com.badlogic.gdx.math.Rectangle;
 import ctu.game.isometric.model.dictionary.Word;
 import ctu.game.isometric.model.game.GameSave;
 import ctu.game.isometric.model.game.GameState;
+import ctu.game.isometric.model.game.SaveSlot;
 
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static ctu.game.isometric.util.FontGenerator.generateVietNameseFont;
@@ -33,8 +38,11 @@ public class LoadGameController {
     private final int screenWidth = 1280;
     private final int screenHeight = 720;
 
-    // Save files
+    // Save files, with their summaries from the save index
     private String[] saveFiles;
+    private String[] slotLabels;
+    private String[] slotThumbnails;
+    private final Map<String, Texture> thumbnailTextures = new HashMap<>();
     private int selectedFileIndex = 0;
 
 
@@ -65,7 +73,7 @@ public class LoadGameController {
 
     public LoadGameController(GameController gameController) {
         this.gameController = gameController;
-        this.saveService = new GameSaveController();
+        this.saveService = gameController.getGameSaveController();
 
         this.font = generateVietNameseFont("GrenzeGotisch.ttf", 30);
         this.titleFont = generateVietNameseFont("GrenzeGotisch.ttf", 50);
@@ -95,7 +103,23 @@ public class LoadGameController {
     }
 
     public void refreshSaveFiles() {
-        saveFiles = saveService.getSaveFiles();
+        List<SaveSlot> slots = saveService.getSaveSlots();
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        saveFiles = new String[slots.size()];
+        slotLabels = new String[slots.size()];
+        slotThumbnails = new String[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            SaveSlot slot = slots.get(i);
+            saveFiles[i] = slot.getFileName();
+            slotThumbnails[i] = slot.getThumbnail();
+            if (slot.getSaveDate() == null) {
+                slotLabels[i] = slot.getFileName();
+            } else {
+                int minutes = (int) (slot.getPlayTime() / 60);
+                slotLabels[i] = String.format("%s   %s   %dh%02dm   %d pts", slot.getCharacterName(),
+                        dateFormat.format(slot.getSaveDate()), minutes / 60, minutes % 60, (int) slot.getScore());
+            }
+        }
 
         // Reset selection if needed
         if (saveFiles.length > 0) {
@@ -161,11 +185,18 @@ public class LoadGameController {
                 // Draw button
                 batch.draw(buttonTexture, rect.x, rect.y, rect.width, rect.height);
 
-                // Draw save file name
-                String displayName = saveFiles[i];
+                // Draw slot summary, with the character portrait if known
+                float textX = rect.x + 20;
+                Texture thumbnail = getThumbnail(slotThumbnails[i]);
+                if (thumbnail != null) {
+                    float size = rect.height - 10;
+                    batch.draw(thumbnail, rect.x + 10, rect.y + 5, size, size);
+                    textX += size;
+                }
+                String displayName = slotLabels[i];
                 GlyphLayout layout = new GlyphLayout(font, displayName);
                 font.draw(batch, displayName,
-                        rect.x + 20,
+                        textX,
                         rect.y + rect.height - (rect.height - layout.height) / 2);
 
                 batch.draw(deleteButtonTexture,
@@ -219,6 +250,11 @@ public class LoadGameController {
         batch.setProjectionMatrix(originalMatrix);
     }
 
+    private Texture getThumbnail(String path) {
+        if (path == null) return null;
+        return thumbnailTextures.computeIfAbsent(path, p -> Gdx.files.internal(p).exists() ? new Texture(Gdx.files.internal(p)) : null);
+    }
+
     public boolean handleInput(int keycode) {
         switch (keycode) {
             case Input.Keys.UP:
@@ -361,5 +397,8 @@ public class LoadGameController {
         buttonNormal.dispose();
         buttonSelected.dispose();
         backButtonTexture.dispose();
+        for (Texture thumbnail : thumbnailTextures.values()) {
+            thumbnail.dispose();
+        }
     }
 }
\ No newline at end of file
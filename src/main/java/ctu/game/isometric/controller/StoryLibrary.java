@@ -0,0 +1,280 @@
+package ctu.game.isometric.controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ctu.game.isometric.model.dialog.Arc;
+import ctu.game.isometric.model.dialog.Scene;
+import ctu.game.isometric.model.dialog.StoryGraph;
+import ctu.game.isometric.model.dialog.StoryManifest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Story arcs loaded on demand. story/manifest.json maps arc IDs to per-arc files, which
+ * are parsed a scene at a time with Jackson's streaming parser and compiled into the
+ * shared StoryGraph. Arcs near the player are prefetched on a worker thread; at most
+ * MAX_RESIDENT_ARCS stay compiled, least recently used first out. Arcs are never read on
+ * the game thread: a miss returns a future that completes once the worker has loaded it. reload() re-reads the
+ * manifest or an arc from a given source file, for hot reloading during development.
+ *
+ * Everything except the parsing itself runs on the game thread.
+ */
+public class StoryLibrary {
+    private static final String STORY_DIRECTORY = "story/";
+    private static final String MANIFEST_FILE = STORY_DIRECTORY + "manifest.json";
+    private static final int MAX_RESIDENT_ARCS = 4;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "story-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Map<String, String> arcFiles = new HashMap<>();
+    // Files to read instead of the internal ones, set by reload(); read by the worker
+    private final Map<String, FileHandle> sources = new ConcurrentHashMap<>();
+    private final StoryGraph graph = new StoryGraph();
+    // Resident arc IDs in access order, eldest first
+    private final LinkedHashMap<String, Boolean> residency = new LinkedHashMap<>(16, 0.75f, true);
+    // Arcs being read, completed on the game thread once installed (with null if unreadable)
+    private final Map<String, CompletableFuture<StoryGraph.ArcNode>> loading = new HashMap<>();
+    // Arcs the last prefetch asked for; never evicted while wanted
+    private Set<String> wanted = new HashSet<>();
+
+    public StoryLibrary() {
+        loadManifest();
+    }
+
+    private void loadManifest() {
+        try {
+            arcFiles = readManifest(Gdx.files.internal(MANIFEST_FILE));
+            Gdx.app.log("StoryLibrary", "Story manifest loaded: " + arcFiles.size() + " arcs");
+        } catch (Exception e) {
+            Gdx.app.error("StoryLibrary", "Failed to load story manifest", e);
+        }
+    }
+
+    // Any thread: arc ID -> file path
+    private Map<String, String> readManifest(FileHandle file) throws IOException {
+        Map<String, String> files = new HashMap<>();
+        try (InputStream input = file.read()) {
+            StoryManifest manifest = mapper.readValue(input, StoryManifest.class);
+            for (StoryManifest.Entry entry : manifest.getArcs()) {
+                if (entry.getId() == null || entry.getFile() == null) {
+                    Gdx.app.error("StoryLibrary", "Skipping incomplete manifest entry");
+                    continue;
+                }
+                if (files.put(entry.getId(), STORY_DIRECTORY + entry.getFile()) != null) {
+                    Gdx.app.error("StoryLibrary", "Duplicate arc in manifest: " + entry.getId());
+                }
+            }
+        }
+        return files;
+    }
+
+    // Compiled arc if resident, otherwise null; a miss starts loading it in the background
+    public StoryGraph.ArcNode getArc(String arcId) {
+        StoryGraph.ArcNode arc = graph.getArc(arcId);
+        if (arc != null) {
+            residency.get(arcId); // mark as recently used
+            return arc;
+        }
+        if (arcFiles.containsKey(arcId) && !loading.containsKey(arcId)) {
+            startLoad(arcId, "Failed to load arc " + arcId);
+        }
+        return null;
+    }
+
+    /**
+     * The arc, already done if it is resident or unknown. Otherwise the pending load,
+     * completed on the game thread with the arc or null if it could not be read.
+     */
+    public CompletableFuture<StoryGraph.ArcNode> requestArc(String arcId) {
+        StoryGraph.ArcNode arc = getArc(arcId);
+        CompletableFuture<StoryGraph.ArcNode> pending = loading.get(arcId);
+        if (arc != null || pending == null) {
+            return CompletableFuture.completedFuture(arc);
+        }
+        return pending;
+    }
+
+    // Load these arcs in the background and let the others be evicted
+    public void prefetch(Collection<String> arcIds) {
+        wanted = new HashSet<>(arcIds);
+        for (String arcId : wanted) {
+            if (graph.contains(arcId) || loading.containsKey(arcId) || !arcFiles.containsKey(arcId)) continue;
+            startLoad(arcId, "Failed to prefetch arc " + arcId);
+        }
+        evict();
+    }
+
+    // Re-read a story file (e.g. "story/arcs/chapter_01.json") from source. Resident arcs are
+    // recompiled and swapped in on a later frame; dialogs already running keep the old scenes.
+    public void reload(String path, FileHandle source) {
+        sources.put(path, source);
+        if (MANIFEST_FILE.equals(path)) {
+            CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readManifest(source);
+                } catch (IOException | RuntimeException e) {
+                    throw new CompletionException(e);
+                }
+            }, worker).whenComplete((files, error) -> Gdx.app.postRunnable(() -> {
+                if (error != null) {
+                    Gdx.app.error("StoryLibrary", "Failed to reload story manifest", error);
+                    return;
+                }
+                // Arcs that moved or left the manifest are dropped and load again on demand
+                for (Map.Entry<String, String> arc : arcFiles.entrySet()) {
+                    if (!arc.getValue().equals(files.get(arc.getKey()))) {
+                        unload(arc.getKey());
+                    }
+                }
+                arcFiles = files;
+                Gdx.app.log("StoryLibrary", "Story manifest reloaded: " + arcFiles.size() + " arcs");
+            }));
+            return;
+        }
+
+        String arcId = null;
+        for (Map.Entry<String, String> arc : arcFiles.entrySet()) {
+            if (arc.getValue().equals(path)) arcId = arc.getKey();
+        }
+        if (arcId == null) {
+            Gdx.app.log("StoryLibrary", "Changed file is not in the manifest: " + path);
+            return;
+        }
+        if (!graph.contains(arcId) && !loading.containsKey(arcId)) return; // read fresh when next needed
+
+        // Supersede any prefetch in flight, then swap the recompiled arc in
+        startLoad(arcId, "Failed to reload arc " + arcId + ", keeping the old one");
+    }
+
+    public void dispose() {
+        worker.shutdownNow();
+    }
+
+    private void unload(String arcId) {
+        graph.remove(arcId);
+        residency.remove(arcId);
+        loading.remove(arcId);
+    }
+
+    // Read the arc on the worker and install it on the game thread. A newer load for the same
+    // arc supersedes this one, and whoever waits on this one gets the newer result.
+    private CompletableFuture<StoryGraph.ArcNode> startLoad(String arcId, String errorMessage) {
+        CompletableFuture<StoryGraph.ArcNode> installed = new CompletableFuture<>();
+        loading.put(arcId, installed);
+        CompletableFuture.supplyAsync(() -> load(arcId), worker).whenComplete((arc, error) -> Gdx.app.postRunnable(() -> {
+            if (loading.get(arcId) != installed) {
+                CompletableFuture<StoryGraph.ArcNode> newer = loading.get(arcId);
+                if (newer != null) {
+                    newer.thenAccept(installed::complete);
+                } else {
+                    installed.complete(graph.getArc(arcId)); // unloaded meanwhile
+                }
+                return;
+            }
+            loading.remove(arcId);
+            if (error != null) {
+                Gdx.app.error("StoryLibrary", errorMessage, error);
+            } else if (arc != null) {
+                install(arc);
+            }
+            installed.complete(graph.getArc(arcId));
+        }));
+        return installed;
+    }
+
+    private void install(StoryGraph.ArcNode arc) {
+        graph.put(arc);
+        residency.put(arc.getId(), Boolean.TRUE);
+        Gdx.app.log("StoryLibrary", "Loaded arc " + arc.getId() + " (" + arc.getSceneCount() + " scenes, "
+                + arc.getBrokenLinkCount() + " broken links)");
+        evict();
+    }
+
+    private void evict() {
+        Iterator<String> eldest = residency.keySet().iterator();
+        int excess = residency.size() - MAX_RESIDENT_ARCS;
+        while (excess > 0 && eldest.hasNext()) {
+            String arcId = eldest.next();
+            if (wanted.contains(arcId)) continue;
+            eldest.remove();
+            graph.remove(arcId);
+            excess--;
+        }
+    }
+
+    // Any thread: read and compile one arc file
+    private StoryGraph.ArcNode load(String arcId) {
+        String path = arcFiles.get(arcId);
+        if (path == null) return null;
+        try {
+            FileHandle source = sources.get(path);
+            return StoryGraph.compileArc(readArc(source != null ? source : Gdx.files.internal(path)));
+        } catch (IOException | RuntimeException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // Stream one arc object, binding a scene at a time instead of building the whole tree
+    private Arc readArc(FileHandle file) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(file.read())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected an arc object in " + file.path());
+            }
+            Arc arc = new Arc();
+            List<Scene> scenes = new ArrayList<>();
+            arc.setScenes(scenes);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id":
+                        arc.setId(parser.getValueAsString());
+                        break;
+                    case "title":
+                        arc.setTitle(parser.getValueAsString());
+                        break;
+                    case "description":
+                        arc.setDescription(parser.getValueAsString());
+                        break;
+                    case "scenes":
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                scenes.add(mapper.readValue(parser, Scene.class));
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return arc;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package ctu.game.isometric.controller;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import ctu.game.isometric.model.world.IsometricMap;
+import ctu.game.isometric.model.world.WeatherRegion;
+
+import java.util.List;
+
+/**
+ * Weather and ambience on the exploring map. Each frame it works out which map chunks the
+ * camera shows and how much of that view each weather region covers, and runs one
+ * view-covering effect per kind of weather at that strength. Walking into a region fades its
+ * weather in; leaving fades it out.
+ *
+ * Only the regions registered in visible chunks are looked at, and each kind is drawn by a
+ * single emitter sized to the screen, so the cost follows the screen, not the region size.
+ */
+public class WeatherController {
+    private static final float FADE_PER_SECOND = 0.5f;
+    // Weather this faint is switched off rather than kept running
+    private static final float MIN_INTENSITY = 0.02f;
+
+    private final GameController gameController;
+    private final ObjectFloatMap<String> coverage = new ObjectFloatMap<>();
+    private final ObjectFloatMap<String> intensities = new ObjectFloatMap<>();
+    private final Array<String> effects = new Array<>();
+
+    public WeatherController(GameController gameController) {
+        this.gameController = gameController;
+    }
+
+    public void update(float delta) {
+        IsometricMap map = gameController.getMap();
+        OrthographicCamera camera = gameController.getCamera();
+        if (map == null || camera == null) return;
+
+        measureCoverage(map, camera);
+
+        EffectManager effectManager = gameController.getEffectManager();
+        float step = FADE_PER_SECOND * delta;
+        for (String effect : effects) {
+            float current = intensities.get(effect, 0);
+            float target = Math.min(1, coverage.get(effect, 0));
+            float next = current < target ? Math.min(target, current + step) : Math.max(target, current - step);
+            if (next < MIN_INTENSITY) next = 0;
+            if (next != current) {
+                intensities.put(effect, next);
+                effectManager.setViewEffect(effect, next);
+            }
+        }
+    }
+
+    // Drop all weather at once, e.g. when leaving the map; it fades back in on return
+    public void clear() {
+        gameController.getEffectManager().clearViewEffects();
+        for (String effect : effects) {
+            intensities.put(effect, 0);
+        }
+        coverage.clear();
+    }
+
+    // Share of the screen each kind of weather covers, weighted by region intensity
+    private void measureCoverage(IsometricMap map, OrthographicCamera camera) {
+        coverage.clear();
+
+        // Grid bounds of the view: the four screen corners mapped back from isometric
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        float a0 = 2 * (camera.position.x - halfWidth) / map.getTileWidth();
+        float a1 = 2 * (camera.position.x + halfWidth) / map.getTileWidth();
+        float b0 = 2 * (camera.position.y - halfHeight) / map.getTileHeight();
+        float b1 = 2 * (camera.position.y + halfHeight) / map.getTileHeight();
+        // x = (a - b) / 2, y = (a + b) / 2
+        int minX = Math.max(0, MathUtils.floor((a0 - b1) / 2));
+        int maxX = Math.min(map.getMapWidth(), MathUtils.ceil((a1 - b0) / 2));
+        int minY = Math.max(0, MathUtils.floor((a0 + b0) / 2));
+        int maxY = Math.min(map.getMapHeight(), MathUtils.ceil((a1 + b1) / 2));
+        if (minX >= maxX || minY >= maxY) return;
+
+        // The grid bounds overshoot the screen at the corners, so measure against the tiles the
+        // screen actually holds (a tile is a diamond of half its bounding box)
+        float visibleTiles = (4 * halfWidth * halfHeight) / (map.getTileWidth() * map.getTileHeight() / 2f);
+        int chunkSize = map.getChunkSize();
+        for (int cy = minY / chunkSize; cy <= (maxY - 1) / chunkSize; cy++) {
+            for (int cx = minX / chunkSize; cx <= (maxX - 1) / chunkSize; cx++) {
+                List<WeatherRegion> regions = map.getWeatherRegions(cx, cy);
+                if (regions.isEmpty()) continue;
+
+                // Count each region only within this chunk, so one spanning chunks isn't counted twice
+                int x0 = Math.max(minX, cx * chunkSize), x1 = Math.min(maxX, (cx + 1) * chunkSize);
+                int y0 = Math.max(minY, cy * chunkSize), y1 = Math.min(maxY, (cy + 1) * chunkSize);
+                for (int i = 0; i < regions.size(); i++) {
+                    WeatherRegion region = regions.get(i);
+                    int tiles = region.overlap(x0, y0, x1, y1);
+                    if (tiles == 0) continue;
+                    if (!intensities.containsKey(region.getEffect())) {
+                        intensities.put(region.getEffect(), 0);
+                        effects.add(region.getEffect());
+                    }
+                    coverage.getAndIncrement(region.getEffect(), 0, tiles * region.getIntensity() / visibleTiles);
+                }
+            }
+        }
+    }
+}
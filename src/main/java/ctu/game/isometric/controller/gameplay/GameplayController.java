@@ -7,11 +7,13 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import ctu.game.isometric.controller.EffectManager;
 import ctu.game.isometric.controller.GameController;
+import ctu.game.isometric.model.combat.CombatEngine;
+import ctu.game.isometric.model.combat.CombatEvent;
+import ctu.game.isometric.model.combat.CombatState;
 import ctu.game.isometric.model.entity.Enemy;
 import ctu.game.isometric.model.game.GameState;
 import ctu.game.isometric.model.game.Items;
@@ -26,7 +28,6 @@ import java.util.Random;
 
 import static ctu.game.isometric.util.FontGenerator.generateVietNameseFont;
 import static ctu.game.isometric.util.WordNetValidator.calculateScore;
-import static ctu.game.isometric.util.WordNetValidator.getTotalScore;
 
 
 public class GameplayController {
@@ -55,38 +56,31 @@ public class GameplayController {
     private Texture cellTexture;
     private Texture selectedCellTexture;
     private Texture itemCellTexture;
-    float playerMaxHealth = 100;
     private MapEvent currentEvent;
 
     // Button areas
     private Rectangle submitButtonRect, clearButtonRect, exitButtonRect;
 
-    // Combat state
+    // Combat state lives in the engine; this class only shows it
+    private CombatEngine combat;
     private boolean isCombatMode = false;
-    private boolean isPlayerTurn = true;
-
-    private float playerHealth = 100;
-
-    private float enemyHealth = 100;
-
-    private float enemyMaxHealth = 100;
 
     private String enemyName = "Enemy";
-    private float enemyActionTimer = 0;
-    private static final float ENEMY_TURN_DELAY = 2.5f;
     private String combatLog = "";
-    private float wordDamageMultiplier = 1f;
     private boolean autoStartCombat = false;
     private String playerName;
     private boolean isVictory = false;
     private EffectManager effectManager;
     private WordNetValidator wordValidator;
+    private final TimerService timers;
+    private TimerService.Handle exitTimer;
 
     public GameplayController(GameController gameController) {
         this.gameController = gameController;
         this.letterGrid = new LetterGrid();
 
         this.effectManager = gameController.getEffectManager();
+        this.timers = gameController.getTimerService();
         this.wordValidator = gameController.getWordNetValidator();
         this.playerName = gameController.getCharacter().getName();
         initializeUI();
@@ -180,29 +174,13 @@ public class GameplayController {
         }
 
         // Update appropriate mode
-        if (isCombatMode) updateCombat(delta);
+        if (isCombatMode && combat != null) combat.update(delta);
     }
 
     private void spawnAttackEffect(float x, float y) {
         effectManager.spawnEffect("attack", x, y);
     }
 
-    private void spawnRainEffect(float x, float y) {
-        effectManager.spawnEffect("rain", x, y);
-    }
-
-    private void updateCombat(float delta) {
-        // Process enemy turn
-        if (!isPlayerTurn) {
-            enemyActionTimer += delta;
-            if (enemyActionTimer >= ENEMY_TURN_DELAY) {
-                performEnemyAction();
-                enemyActionTimer = 0;
-            }
-            return;
-        }
-    }
-
     public boolean handleCombatClick(float x, float ScreenY) {
         float y = Gdx.graphics.getHeight() - ScreenY;
 
@@ -278,7 +256,7 @@ public class GameplayController {
         drawRect(batch, panelX, panelY, panelWidth, panelHeight, 3);
 
         // Get reward information
-        Reward reward = RewardLoader.getRewardById(this.enemy.getRewardID());
+        Reward reward = GameData.get().getReward(this.enemy.getRewardID());
         Items item = reward.getItemID();
 
         // Title
@@ -355,15 +333,14 @@ public class GameplayController {
                 gameController.getCharacter().addItem(item, reward.getAmount());
                 gameController.getInventoryUI().notifyItemsChanged();
 
-                gameController.getCharacter().setHealth(playerHealth);
+                gameController.getCharacter().setHealth(combat.getState().getPlayerHealth());
 
-                Timer.schedule(new Timer.Task() {
-                    @Override
-                    public void run() {
+                if (exitTimer == null || !exitTimer.isScheduled()) {
+                    exitTimer = timers.schedule(() -> {
                         gameController.setState(GameState.EXPLORING);
                         dispose();
-                    }
-                }, 1.0f);
+                    }, 1.0f);
+                }
             }
         }
 
@@ -376,8 +353,10 @@ public class GameplayController {
         batch.draw(whiteTexture, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
 
         // Draw player and enemy
-        drawCombatCharacter(batch, playerName, playerHealth, playerMaxHealth, 50, 600, true);
-        drawCombatCharacter(batch, enemyName, (float) enemyHealth, (float) enemyMaxHealth, viewport.getWorldWidth() - 300, 600, false);
+        CombatState state = combat.getState();
+        boolean isPlayerTurn = state.isPlayerTurn();
+        drawCombatCharacter(batch, playerName, state.getPlayerHealth(), state.getPlayerMaxHealth(), 50, 600, true);
+        drawCombatCharacter(batch, enemyName, state.getEnemyHealth(), state.getEnemyMaxHealth(), viewport.getWorldWidth() - 300, 600, false);
 
         // Draw combat log
 
@@ -473,7 +452,7 @@ public class GameplayController {
 
             String itemName = entry.getKey();
             int amount = entry.getValue();
-            Items item = ItemLoader.getItemByName(itemName);
+            Items item = GameData.get().getItem(itemName);
 
             if (item == null) continue;
 
@@ -606,25 +585,13 @@ public class GameplayController {
         if (item == null) return;
 
         // Only allow item usage during player's turn in combat
-        if (!isPlayerTurn || !isCombatMode) return;
+        if (!isCombatMode || !combat.canAct()) return;
 
         // Remove one of this item from inventory
         Map<String, Integer> items = gameController.getCharacter().getItems();
         if (items.containsKey(item.getItemName()) && items.get(item.getItemName()) > 0) {
-            // Apply effect based on item type
-            switch (item.getItemEffect()) {
-                case "heal":
-                    playerHealth = Math.min(playerMaxHealth, playerHealth + item.getValue());
-                    showMessage("Đã dùng " + item.getItemName() + "! HỒI " + item.getValue() + " Sinh Lực!");
-                    break;
-                case "buff":
-                    wordDamageMultiplier += item.getValue();
-                    showMessage("Đã dùng " + item.getItemName() + "! MẠNH MẼ!");
-                    break;
-                default:
-                    showMessage("Đã dùng " + item.getItemName() + "!");
-                    break;
-            }
+            // The engine applies the effect and ends the player's turn
+            if (!combat.useItem(item)) return;
 
             // Reduce item count
             int newCount = items.get(item.getItemName()) - 1;
@@ -633,10 +600,6 @@ public class GameplayController {
             } else {
                 items.put(item.getItemName(), newCount);
             }
-
-            // End player's turn after using an item
-            combatLog += "\nBạn đã dùng " + item.getItemName() + ".\nTới Lượt Của Kẻ Địch!";
-            isPlayerTurn = false;
         }
     }
 
@@ -764,102 +727,84 @@ public class GameplayController {
                 buttonRect.y + (buttonRect.height + layout.height) / 2);
     }
 
-    private void performEnemyAction() {
-        float damage = (random.nextInt(8) + 3) * enemy.getAttackPower();
-        playerHealth -= damage;
-
-        int action = random.nextInt(10);
-        if (action < 7) { // 70% normal attack
-            combatLog = enemyName + " attack for " + damage + " damage!\n" + "Your current health is " + this.playerHealth + ".";
-        } else if (action < 9) { // 20% power attack
-            int extraDamage = random.nextInt(5) + 1;
-            playerHealth -= extraDamage;
-            combatLog = enemyName + " performs a power attack for " + (damage + extraDamage) + " damage!\n" + "Your current health is " + this.playerHealth + ".";
-
-        } else { // 10% heal
-            int heal = random.nextInt(8) + 3;
-            enemyHealth = Math.min(enemyMaxHealth, enemyHealth + heal);
-            combatLog = enemyName + " recovers " + heal + " health!";
-        }
-        effectManager.spawnEffect("attack", viewport.getWorldWidth() - 300, 600);
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                checkCombatEnd();
-
-            }
-        }, 0.5f);
-        if (isCombatMode) {
-            isPlayerTurn = true;
-            letterGrid.regenerateGrid();
-        }
-    }
-
-    private void checkCombatEnd() {
-        if (playerHealth <= 0) {
-            combatLog = "Bạn bị đánh bại bởi " + enemyName + "!";
-            playerHealth = 0;
-            endCombat(false);
-        } else if (enemyHealth <= 0) {
-            combatLog = "Bạn đã hạ gục " + enemyName + "!";
-            enemyHealth = 0;
-            endCombat(true);
-            if (currentEvent.isOneTime()) {
-                gameController.getEventManager().recordDefeatedEnemy(this.enemy.getEnemyID());
-                gameController.getEventManager().completeEvent(currentEvent.getId());
-                gameController.setEndEvent();
-            }
+    // Turn what the engine did into effects, messages and game progress
+    private void onCombatEvent(CombatEvent event, CombatState state) {
+        switch (event.getType()) {
+            case WORD_CAST:
+                combatLog = "Your word '" + event.getSource() + "' deals " + event.getAmount() + " damage!";
+                effectManager.spawnEffect("attack", viewport.getWorldWidth() - 300, 600);
+                break;
+            case ITEM_HEAL:
+                showMessage("Đã dùng " + event.getSource() + "! HỒI " + event.getAmount() + " Sinh Lực!");
+                combatLog += "\nBạn đã dùng " + event.getSource() + ".\nTới Lượt Của Kẻ Địch!";
+                break;
+            case ITEM_BUFF:
+                showMessage("Đã dùng " + event.getSource() + "! MẠNH MẼ!");
+                combatLog += "\nBạn đã dùng " + event.getSource() + ".\nTới Lượt Của Kẻ Địch!";
+                break;
+            case ITEM_USED:
+                showMessage("Đã dùng " + event.getSource() + "!");
+                combatLog += "\nBạn đã dùng " + event.getSource() + ".\nTới Lượt Của Kẻ Địch!";
+                break;
+            case ENEMY_ATTACK:
+                combatLog = enemyName + " attack for " + event.getAmount() + " damage!\n" + "Your current health is " + state.getPlayerHealth() + ".";
+                effectManager.spawnEffect("attack", viewport.getWorldWidth() - 300, 600);
+                break;
+            case ENEMY_POWER_ATTACK:
+                combatLog = enemyName + " performs a power attack for " + event.getAmount() + " damage!\n" + "Your current health is " + state.getPlayerHealth() + ".";
+                effectManager.spawnEffect("attack", viewport.getWorldWidth() - 300, 600);
+                break;
+            case ENEMY_HEAL:
+                combatLog = enemyName + " recovers " + event.getAmount() + " health!";
+                effectManager.spawnEffect("attack", viewport.getWorldWidth() - 300, 600);
+                break;
+            case PLAYER_TURN:
+                letterGrid.regenerateGrid();
+                break;
+            case DEFEAT:
+                combatLog = "Bạn bị đánh bại bởi " + enemyName + "!";
+                endCombat(false);
+                break;
+            case VICTORY:
+                combatLog = "Bạn đã hạ gục " + enemyName + "!";
+                endCombat(true);
+                if (currentEvent.isOneTime()) {
+                    gameController.getEventManager().recordDefeatedEnemy(this.enemy.getEnemyID());
+                    gameController.getEventManager().completeEvent(currentEvent.getId());
+                    gameController.setEndEvent();
+                }
+                break;
+            default:
+                break;
         }
     }
 
     private void endCombat(boolean victory) {
         isCombatMode = false;
         isVictory = victory;
-        wordDamageMultiplier = gameController.getCharacter().getDamage();
     }
 
     public boolean submitWord() {
         if (!active) return false;
 
         String word = letterGrid.getCurrentWord();
-        if (word.length() < 3) {
-            showMessage("Words must be at least 3 letters long!");
+        int minWordLength = gameController.getCombatRules().getMinWordLength();
+        if (word.length() < minWordLength) {
+            showMessage("Words must be at least " + minWordLength + " letters long!");
             return false;
         }
 
         if (gameController.getCharacter().getLearnedWords().contains(word.toUpperCase()) || wordValidator.isValidWord(word)) {
-            int points = getTotalScore(wordValidator.getWordDetails(word));
+            int points = wordValidator.getWordScore(word);
             System.out.println("Word: " + word + ", Points: " + points);
 
             if (gameController.getCharacter().addLearnedWord(word))
                 gameController.getDictionaryView().addNewWord(word);
 
 
-            if (isCombatMode && isPlayerTurn) {
-                float damage = points * wordDamageMultiplier;
-                if (enemyHealth <= 0) {
-                    damage = 0;
-                }
-                if (damage > enemyHealth) {
-                    damage = enemyHealth;
-                }
-                enemyHealth -= damage;
-                combatLog = "Your word '" + word + "' deals " + damage + " damage!";
+            if (isCombatMode && combat.canAct()) {
+                float damage = combat.castWord(word, points);
                 showMessage("+" + points + " points! " + damage + " damage!");
-                // Spawn attack particle effect
-                effectManager.spawnEffect("attack", viewport.getWorldWidth() - 300, 600);
-
-                Timer.schedule(new Timer.Task() {
-                    @Override
-                    public void run() {
-                        checkCombatEnd();
-
-                    }
-                }, 0.5f);
-
-                if (isCombatMode && enemyHealth > 0) {
-                    isPlayerTurn = false;
-                }
             } else {
                 showMessage("+" + points + " points!");
             }
@@ -878,15 +823,10 @@ public class GameplayController {
     public void startCombat(Enemy enemy) {
         this.enemy = enemy;
         this.enemyName = enemy.getEnemyName();
-        this.enemyMaxHealth = enemy.getHealth();
-        this.enemyHealth = enemy.getHealth();
-        this.wordDamageMultiplier = gameController.getCharacter().getDamage();
-
-        this.playerHealth = gameController.getCharacter().getHealth();
-        this.playerMaxHealth = gameController.getCharacter().getMaxHealth();
+        this.combat = new CombatEngine(gameController.getCombatRules(), random, gameController.getCharacter(), enemy);
+        this.combat.setListener(this::onCombatEvent);
 
         this.isCombatMode = true;
-        this.isPlayerTurn = true;
         this.combatLog = "Bắt đầu cạnh tranh với " + enemyName + "!";
         letterGrid.regenerateGrid();
     }
@@ -969,11 +909,15 @@ public class GameplayController {
     }
 
     public float getPlayerHealth() {
-        return playerHealth;
+        return combat == null ? 0 : combat.getState().getPlayerHealth();
     }
 
     public float getEnemyHealth() {
-        return enemyHealth;
+        return combat == null ? 0 : combat.getState().getEnemyHealth();
+    }
+
+    public CombatEngine getCombat() {
+        return combat;
     }
 
     public LetterGrid getLetterGrid() {
@@ -0,0 +1,35 @@
+package ctu.game.isometric.controller.quiz;
+
+import ctu.game.isometric.model.dictionary.Word;
+import ctu.game.isometric.model.dictionary.WordDefinition;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Show a definition, answer with the word
+public class DefinitionMatchGenerator implements QuizGenerator {
+
+    @Override
+    public QuizType getType() {
+        return QuizType.DEFINITION_MATCH;
+    }
+
+    @Override
+    public List<Quiz> generate(String word, Word details) {
+        List<Quiz> quizzes = new ArrayList<>();
+        for (WordDefinition definition : details.getDefinitions()) {
+            String gloss = definition.getDefinition();
+            if (gloss == null) continue;
+
+            // The first clause only; later ones are often examples that give the word away
+            gloss = gloss.split(";")[0].trim();
+            if (gloss.isEmpty() || gloss.toLowerCase().contains(word.toLowerCase())) continue;
+
+            String partOfSpeech = definition.getPartOfSpeech() != null ? " (" + definition.getPartOfSpeech() + ")" : "";
+            quizzes.add(new Quiz(QuizType.DEFINITION_MATCH, "Which word means" + partOfSpeech + ": " + gloss + "?", word, 3, 2));
+        }
+        return quizzes;
+    }
+}
@@ -0,0 +1,37 @@
+package ctu.game.isometric.controller.quiz;
+
+import ctu.game.isometric.model.dictionary.Word;
+import ctu.game.isometric.model.dictionary.WordDefinition;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Example sentences with the word blanked out; examples that don't contain it are skipped
+public class FillInBlankGenerator implements QuizGenerator {
+    private static final String BLANK = "____";
+
+    @Override
+    public QuizType getType() {
+        return QuizType.FILL_IN_THE_BLANK;
+    }
+
+    @Override
+    public List<Quiz> generate(String word, Word details) {
+        Pattern pattern = Pattern.compile("\\b" + Pattern.quote(word) + "\\b", Pattern.CASE_INSENSITIVE);
+        List<Quiz> quizzes = new ArrayList<>();
+        for (WordDefinition definition : details.getDefinitions()) {
+            if (definition.getExamples() == null) continue;
+            for (String example : definition.getExamples()) {
+                Matcher matcher = pattern.matcher(example);
+                if (matcher.find()) {
+                    quizzes.add(new Quiz(QuizType.FILL_IN_THE_BLANK, matcher.replaceAll(BLANK), word, 3, 2));
+                }
+            }
+        }
+        return quizzes;
+    }
+}
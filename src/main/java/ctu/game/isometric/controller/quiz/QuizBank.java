@@ -0,0 +1,188 @@
+package ctu.game.isometric.controller.quiz;
+
+import ctu.game.isometric.model.dictionary.Word;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizType;
+import ctu.game.isometric.util.WordNetValidator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ready-to-show quizzes for every learned word, built on a worker thread by the
+ * registered generators. sync() hands over newly learned words; next() and quizFor()
+ * pick from what is already built, so starting a round never touches WordNet.
+ * Words no generator can make a quiz for are dropped here.
+ */
+public class QuizBank {
+    // Publish progress this often while building a large batch, so quizzes are available early
+    private static final int PUBLISH_INTERVAL = 64;
+    private static final int CHOICE_COUNT = 4;
+
+    private final WordNetValidator wordNetValidator;
+    private final List<QuizGenerator> generators;
+    private final Random random = new Random();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quiz-bank");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Upper-case word -> its quizzes grouped by generator (empty when the word has none)
+    private final Map<String, List<List<Quiz>>> quizzes = new ConcurrentHashMap<>();
+    // Words with at least one quiz; replaced wholesale by the worker
+    private volatile List<String> usableWords = Collections.emptyList();
+    private final AtomicInteger pendingWords = new AtomicInteger();
+
+    // Game thread: words already handed to the worker
+    private final Set<String> submitted = new HashSet<>();
+
+    public QuizBank(WordNetValidator wordNetValidator, List<QuizGenerator> generators) {
+        this.wordNetValidator = wordNetValidator;
+        this.generators = generators;
+    }
+
+    public static List<QuizGenerator> defaultGenerators() {
+        List<QuizGenerator> generators = new ArrayList<>();
+        generators.add(new FillInBlankGenerator());
+        generators.add(new DefinitionMatchGenerator());
+        generators.add(new SynonymPickGenerator());
+        generators.add(new SpellingGenerator());
+        return generators;
+    }
+
+    // Bring the bank in line with the learned words; cheap when nothing changed
+    public void sync(Set<String> learnedWords) {
+        List<String> added = new ArrayList<>();
+        for (String word : learnedWords) {
+            if (submitted.add(word)) {
+                added.add(word);
+            }
+        }
+        boolean removed = submitted.retainAll(learnedWords);
+        if (added.isEmpty() && !removed) return;
+
+        Set<String> keep = removed ? new HashSet<>(submitted) : null;
+        pendingWords.addAndGet(added.size());
+        worker.execute(() -> {
+            if (keep != null) {
+                quizzes.keySet().retainAll(keep);
+                publish();
+            }
+            int built = 0;
+            for (String word : added) {
+                quizzes.computeIfAbsent(word, this::buildQuizzes);
+                pendingWords.decrementAndGet();
+                if (++built % PUBLISH_INTERVAL == 0) {
+                    publish();
+                }
+            }
+            publish();
+        });
+    }
+
+    /**
+     * A quiz for a random learned word, or null if no learned word has one.
+     * While the worker is still warming up, one word is built on the spot instead.
+     */
+    public Quiz next() {
+        List<String> words = usableWords;
+        if (!words.isEmpty()) {
+            return quizFor(words.get(random.nextInt(words.size())));
+        }
+        if (pendingWords.get() > 0 && !submitted.isEmpty()) {
+            String word = randomSubmittedWord();
+            return createQuiz(quizzes.computeIfAbsent(word, this::buildQuizzes));
+        }
+        return null;
+    }
+
+    public boolean hasQuiz(String word) {
+        List<List<Quiz>> wordQuizzes = quizzes.get(word);
+        return wordQuizzes != null && !wordQuizzes.isEmpty();
+    }
+
+    // Built and found to have no quiz at all; unlike !hasQuiz, this won't change while the word stays learned
+    public boolean isUnquizzable(String word) {
+        List<List<Quiz>> wordQuizzes = quizzes.get(word);
+        return wordQuizzes != null && wordQuizzes.isEmpty();
+    }
+
+    // A quiz for this word, or null if none is ready
+    public Quiz quizFor(String word) {
+        return createQuiz(quizzes.get(word));
+    }
+
+    // Random type first, so words with many examples don't always get fill-in-the-blank
+    private Quiz createQuiz(List<List<Quiz>> wordQuizzes) {
+        if (wordQuizzes == null || wordQuizzes.isEmpty()) {
+            return null;
+        }
+        List<Quiz> ofType = wordQuizzes.get(random.nextInt(wordQuizzes.size()));
+        Quiz quiz = ofType.get(random.nextInt(ofType.size()));
+        return quiz.getType() == QuizType.SYNONYM_PICK ? quiz.withChoices(pickChoices(quiz.getAnswer())) : quiz;
+    }
+
+    // The answer plus other learned words as distractors, shuffled
+    private List<String> pickChoices(String answer) {
+        List<String> words = usableWords;
+        List<String> choices = new ArrayList<>(CHOICE_COUNT);
+        choices.add(answer);
+        for (int attempt = 0; attempt < CHOICE_COUNT * 4 && choices.size() < CHOICE_COUNT && words.size() > 1; attempt++) {
+            String candidate = words.get(random.nextInt(words.size()));
+            if (!choices.contains(candidate)) {
+                choices.add(candidate);
+            }
+        }
+        Collections.shuffle(choices, random);
+        return choices;
+    }
+
+    private String randomSubmittedWord() {
+        Iterator<String> iterator = submitted.iterator();
+        for (int i = random.nextInt(submitted.size()); i > 0; i--) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    private void publish() {
+        List<String> usable = new ArrayList<>(quizzes.size());
+        for (Map.Entry<String, List<List<Quiz>>> entry : quizzes.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                usable.add(entry.getKey());
+            }
+        }
+        usableWords = usable;
+    }
+
+    private List<List<Quiz>> buildQuizzes(String word) {
+        Word details = wordNetValidator.getWordDetails(word.toLowerCase());
+        if (details == null || details.getDefinitions().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<List<Quiz>> result = new ArrayList<>();
+        for (QuizGenerator generator : generators) {
+            List<Quiz> generated = generator.generate(word, details);
+            if (!generated.isEmpty()) {
+                result.add(generated);
+            }
+        }
+        return result;
+    }
+
+    public void dispose() {
+        worker.shutdownNow();
+    }
+}
@@ -3,29 +3,38 @@ package ctu.game.isometric.controller.quiz;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import ctu.game.isometric.controller.GameController;
+import ctu.game.isometric.model.entity.Character;
 import ctu.game.isometric.model.game.GameState;
-
-import java.util.Map;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizResult;
 
 public class QuizController {
     private GameController gameController;
-    private TimedQuizSystem quizSystem;
-    private Map<String, Object> currentQuiz;
+    private final QuizBank quizBank;
+    private final ReviewScheduler reviewScheduler;
+    private final TimedQuizSystem quizSystem;
+    private Quiz currentQuiz;
+    // Placeholder shown in the empty answer box, one underscore per letter
+    private String answerMask = "";
     private String currentAnswer = "";
     private boolean quizActive = false;
     private boolean showingResults = false;
-    private Map<String, Object> lastResult;
+    private QuizResult lastResult;
 
     private int totalScore = 0;
 
     private float centerY;
     private BitmapFont font;
     private ShapeRenderer shapeRenderer;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final Matrix4 originalMatrix = new Matrix4();
+    private final Matrix4 uiMatrix = new Matrix4();
 
     // UI elements
     private Rectangle submitButton;
@@ -34,11 +43,11 @@ public class QuizController {
 
     public QuizController(GameController gameController) {
         this.gameController = gameController;
-        // Initialize with current learned words
-        this.quizSystem = new TimedQuizSystem(
-                gameController.getCharacter().getLearnedWords(),
-                gameController.getWordNetValidator()
-        );
+        // Quiz items are built in the background from the learned words
+        this.quizBank = new QuizBank(gameController.getWordNetValidator(), QuizBank.defaultGenerators());
+        this.reviewScheduler = new ReviewScheduler();
+        this.quizSystem = new TimedQuizSystem(quizBank, reviewScheduler, gameController.getTimerService());
+        prepareQuizBank();
 
         this.font = new BitmapFont();
         this.font.getData().setScale(1.5f);
@@ -51,17 +60,25 @@ public class QuizController {
         this.exitButton = new Rectangle(width * 0.55f, height * 0.25f, width * 0.2f, height * 0.08f);
     }
 
-    public void startQuiz() {
-        // Refresh quiz system with current learned word
-
-        this.quizSystem = new TimedQuizSystem(
-                gameController.getCharacter().getLearnedWords(),
-                gameController.getWordNetValidator()
-        );
+    // Start building quizzes for any newly learned words
+    public void prepareQuizBank() {
+        Character character = gameController.getCharacter();
+        quizBank.sync(character.getLearnedWords());
+        reviewScheduler.attach(character.getReviewStates());
+        reviewScheduler.sync(character.getLearnedWords());
+    }
 
+    public void startQuiz() {
+        // Refresh the quiz bank with current learned words
+        prepareQuizBank();
 
         // Generate a new quiz
-        currentQuiz = quizSystem.generateContextualSentenceQuiz();
+        currentQuiz = quizSystem.generateQuiz();
+        StringBuilder underscores = new StringBuilder();
+        for (int i = 0; i < currentQuiz.getAnswer().length(); i++) {
+            underscores.append("_ ");
+        }
+        answerMask = underscores.toString().trim();
         quizSystem.startQuiz();
         quizActive = true;
         showingResults = false;
@@ -80,7 +97,7 @@ public class QuizController {
         centerY = height / 2;
 
         // Save original projection matrix
-        Matrix4 originalMatrix = new Matrix4(batch.getProjectionMatrix());
+        originalMatrix.set(batch.getProjectionMatrix());
 
         // End current batch if needed
         boolean wasBatchDrawing = batch.isDrawing();
@@ -89,7 +106,7 @@ public class QuizController {
         }
 
         // Set up orthographic projection for UI
-        batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0, 0, width, height));
+        batch.setProjectionMatrix(uiMatrix.setToOrtho2D(0, 0, width, height));
 
         // Apply same projection to shapeRenderer
         shapeRenderer.setProjectionMatrix(batch.getProjectionMatrix());
@@ -128,21 +145,25 @@ public class QuizController {
         float panelHeight = height * 0.8f;
         float centerX = width / 2;
 
-        com.badlogic.gdx.graphics.g2d.GlyphLayout layout = new com.badlogic.gdx.graphics.g2d.GlyphLayout();
-
         // Title
+        String title = currentQuiz.getType().getTitle();
         font.setColor(Color.GOLD);
-        layout.setText(font, "FILL THE BLANK");
-        font.draw(batch, "FILL THE BLANK", centerX - layout.width / 2, height * 0.85f);
+        layout.setText(font, title);
+        font.draw(batch, title, centerX - layout.width / 2, height * 0.85f);
 
         String totalScoreText = "Total Score: " + totalScore;
         layout.setText(font, totalScoreText);
         font.draw(batch, totalScoreText, 100, height * 0.85f);
 
         // Question
-        String question = (String) currentQuiz.get("question");
         font.setColor(Color.WHITE);
-        font.draw(batch, question, width * 0.15f, height * 0.7f, width * 0.7f, 1, true);
+        font.draw(batch, currentQuiz.getQuestion(), width * 0.15f, height * 0.7f, width * 0.7f, 1, true);
+
+        // Choices, for quiz types that offer them
+        if (!currentQuiz.getChoices().isEmpty()) {
+            font.setColor(Color.LIGHT_GRAY);
+            font.draw(batch, String.join("   /   ", currentQuiz.getChoices()), width * 0.15f, height * 0.59f, width * 0.7f, 1, true);
+        }
 
 
 
@@ -181,13 +202,8 @@ public class QuizController {
         String displayText = currentAnswer;
 
 // If the answer field is empty, show underscores representing each character
-        if (displayText.isEmpty() && currentQuiz != null) {
-            String correctAnswer = (String) currentQuiz.get("answer");
-            StringBuilder underscores = new StringBuilder();
-            for (int i = 0; i < correctAnswer.length(); i++) {
-                underscores.append("_ ");
-            }
-            displayText = underscores.toString().trim();
+        if (displayText.isEmpty()) {
+            displayText = answerMask;
             font.setColor(Color.GRAY); // Make underscores appear in gray
         }
 
@@ -209,7 +225,6 @@ public class QuizController {
         if (lastResult == null) return;
 
         float centerX = width / 2;
-        com.badlogic.gdx.graphics.g2d.GlyphLayout layout = new com.badlogic.gdx.graphics.g2d.GlyphLayout();
 
         // Title
         font.setColor(Color.GOLD);
@@ -217,9 +232,9 @@ public class QuizController {
         font.draw(batch, "QUIZ RESULTS", centerX - layout.width / 2, height * 0.85f);
 
         // Results
-        boolean correct = (Boolean) lastResult.get("correct");
-        int score = (Integer) lastResult.get("score");
-        float timeTaken = (Float) lastResult.get("timeTaken");
+        boolean correct = lastResult.isCorrect();
+        int score = lastResult.getScore();
+        float timeTaken = lastResult.getTimeTaken();
 
         // Result status
         String resultText = correct ? "Correct!" : "Incorrect";
@@ -228,7 +243,7 @@ public class QuizController {
         font.draw(batch, resultText, centerX - layout.width / 2, height * 0.7f);
 
         // Show correct answer (especially important if the user was incorrect)
-        String correctAnswer = (String) currentQuiz.get("answer");
+        String correctAnswer = lastResult.getCorrectAnswer();
         font.setColor(Color.YELLOW);
         String answerText = "Answer: " + correctAnswer;
         layout.setText(font, answerText);
@@ -237,7 +252,7 @@ public class QuizController {
         // User's answer if incorrect
         if (!correct) {
             font.setColor(Color.WHITE);
-            String userAnswerText = "Your answer: " + (String) lastResult.get("userAnswer");
+            String userAnswerText = "Your answer: " + lastResult.getUserAnswer();
             layout.setText(font, userAnswerText);
             font.draw(batch, userAnswerText, centerX - layout.width / 2, height * 0.6f);
         }
@@ -299,16 +314,7 @@ public class QuizController {
 //        boolean isCorrect = currentAnswer.trim().equalsIgnoreCase(correctAnswer);
 
         lastResult = quizSystem.submitAnswer(currentAnswer);
-
-
-        // Make sure userAnswer is included in the result map
-        if (!lastResult.containsKey("userAnswer")) {
-            lastResult.put("userAnswer", currentAnswer);
-        }
-
-        if (lastResult.containsKey("score")) {
-            totalScore += (Integer) lastResult.get("score");
-        }
+        totalScore += lastResult.getScore();
 
         showingResults = true;
     }
@@ -345,6 +351,7 @@ public class QuizController {
     }
 
     public void dispose() {
+        quizBank.dispose();
         font.dispose();
         shapeRenderer.dispose();
     }
@@ -0,0 +1,17 @@
+package ctu.game.isometric.controller.quiz;
+
+import ctu.game.isometric.model.dictionary.Word;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizType;
+
+import java.util.List;
+
+/**
+ * Makes quizzes of one type for a learned word. Called on the quiz-bank worker
+ * thread, once per word; return an empty list if the word doesn't suit this type.
+ */
+public interface QuizGenerator {
+    QuizType getType();
+
+    List<Quiz> generate(String word, Word details);
+}
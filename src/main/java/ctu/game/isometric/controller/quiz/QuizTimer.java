@@ -1,70 +1,68 @@
 package ctu.game.isometric.controller.quiz;
 
-import com.badlogic.gdx.utils.Timer;
+import ctu.game.isometric.util.TimerService;
 
+// Countdown on the game's TimerService; costs nothing per frame while it runs
 public class QuizTimer {
+    private final TimerService timers;
+    private final Runnable onExpire = this::expire;
     private float timeLimit;
-    private float timeRemaining;
-    private boolean isRunning;
+    private float timeRemaining; // while not running
+    private TimerService.Handle handle;
     private TimerCallback callback;
 
     public interface TimerCallback {
-        void onTimerTick(float timeRemaining);
         void onTimerComplete();
     }
 
-    public QuizTimer(float timeLimit, TimerCallback callback) {
+    public QuizTimer(TimerService timers, float timeLimit, TimerCallback callback) {
+        this.timers = timers;
         this.timeLimit = timeLimit;
         this.timeRemaining = timeLimit;
         this.callback = callback;
-        this.isRunning = false;
     }
 
     public void start() {
-        if (!isRunning) {
-            isRunning = true;
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    updateTimer(0.1f);
-                }
-            }, 0, 0.1f);
-        }
+        if (isRunning() || timeRemaining <= 0) return;
+        handle = timers.schedule(onExpire, timeRemaining);
     }
 
     public void pause() {
-        isRunning = false;
+        if (!isRunning()) return;
+        timeRemaining = handle.getRemaining();
+        handle.cancel();
+        handle = null;
     }
 
     public void reset() {
+        if (handle != null) {
+            handle.cancel();
+            handle = null;
+        }
         timeRemaining = timeLimit;
-        isRunning = false;
     }
 
-    private void updateTimer(float delta) {
-        if (!isRunning) return;
-
-        timeRemaining -= delta;
-        if (timeRemaining <= 0) {
-            timeRemaining = 0;
-            isRunning = false;
-            if (callback != null) {
-                callback.onTimerComplete();
-            }
-        } else if (callback != null) {
-            callback.onTimerTick(timeRemaining);
+    private void expire() {
+        handle = null;
+        timeRemaining = 0;
+        if (callback != null) {
+            callback.onTimerComplete();
         }
     }
 
+    public boolean isRunning() {
+        return handle != null && handle.isScheduled();
+    }
+
     public float getTimeRemaining() {
-        return timeRemaining;
+        return isRunning() ? handle.getRemaining() : timeRemaining;
     }
 
     public float getElapsedTime() {
-        return timeLimit - timeRemaining;
+        return timeLimit - getTimeRemaining();
     }
 
     public float getTimeLimit() {
         return timeLimit;
     }
-}
\ No newline at end of file
+}
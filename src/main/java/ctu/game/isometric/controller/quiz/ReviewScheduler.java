@@ -0,0 +1,154 @@
+package ctu.game.isometric.controller.quiz;
+
+import ctu.game.isometric.model.dictionary.ReviewState;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * SM-2 spaced repetition over the learned words. Review states live in the
+ * character's map (so they are saved with it); this class keeps a min-heap of
+ * due times on top, giving O(log n) selection and rescheduling.
+ *
+ * Heap entries are never updated in place: rescheduling pushes a new entry, and
+ * entries whose due time no longer matches the word's state are skipped as stale.
+ */
+public class ReviewScheduler {
+    // One SM-2 "day"; short so reviews come back within a play session
+    static final long STEP_MILLIS = 5 * 60 * 1000L;
+    private static final float MIN_EASINESS = 1.3f;
+
+    private Map<String, ReviewState> states;
+    private final PriorityQueue<DueEntry> dueQueue = new PriorityQueue<>(
+            Comparator.comparingLong((DueEntry entry) -> entry.dueAt).thenComparing(entry -> entry.word));
+    // Words whose quizzes are still being built; retried on the next sync
+    private final Set<String> parked = new HashSet<>();
+    // Words no quiz can be made for; dropped from the queue for good until another character is attached
+    private final Set<String> skipped = new HashSet<>();
+
+    // Use the given (saved) states; rebuilds the heap when a different character is loaded
+    public void attach(Map<String, ReviewState> states) {
+        if (this.states == states) return;
+        this.states = states;
+        parked.clear();
+        skipped.clear();
+        rebuildQueue();
+    }
+
+    // New learned words become due immediately
+    public void sync(Set<String> learnedWords) {
+        long now = System.currentTimeMillis();
+        for (String word : learnedWords) {
+            if (!states.containsKey(word)) {
+                ReviewState state = new ReviewState(now);
+                states.put(word, state);
+                dueQueue.add(new DueEntry(word, state.getDueAt()));
+            }
+        }
+        for (String word : parked) {
+            ReviewState state = states.get(word);
+            if (state != null) {
+                dueQueue.add(new DueEntry(word, state.getDueAt()));
+            }
+        }
+        parked.clear();
+    }
+
+    /**
+     * The most overdue word that canQuiz accepts (or the next one coming due),
+     * or null if there is none. The word stays queued until it is reviewed.
+     * Words that never can be quizzed are skipped once and not queued again.
+     */
+    public String nextWord(Predicate<String> canQuiz, Predicate<String> neverQuizzable) {
+        DueEntry top;
+        while ((top = dueQueue.peek()) != null) {
+            ReviewState state = states.get(top.word);
+            if (state == null || state.getDueAt() != top.dueAt) {
+                dueQueue.poll(); // stale
+                continue;
+            }
+            if (!canQuiz.test(top.word)) {
+                dueQueue.poll();
+                (neverQuizzable.test(top.word) ? skipped : parked).add(top.word);
+                continue;
+            }
+            return top.word;
+        }
+        return null;
+    }
+
+    /**
+     * Grade a review from the quiz result: wrong answers are quality 1 (0 if time ran
+     * out), right answers 3-5 depending on how quickly they came.
+     */
+    public void recordReview(String word, boolean correct, float timeTaken, float timeLimit, boolean timeExpired) {
+        ReviewState state = states.get(word);
+        if (state == null) return;
+
+        int quality;
+        if (!correct) {
+            quality = timeExpired ? 0 : 1;
+        } else if (timeExpired || timeTaken > timeLimit * 2 / 3) {
+            quality = 3;
+        } else if (timeTaken > timeLimit / 3) {
+            quality = 4;
+        } else {
+            quality = 5;
+        }
+
+        if (quality < 3) {
+            state.setRepetitions(0);
+            state.setInterval(1);
+            state.setLapses(state.getLapses() + 1);
+        } else {
+            if (state.getRepetitions() == 0) {
+                state.setInterval(1);
+            } else if (state.getRepetitions() == 1) {
+                state.setInterval(6);
+            } else {
+                state.setInterval(Math.round(state.getInterval() * state.getEasiness()));
+            }
+            state.setRepetitions(state.getRepetitions() + 1);
+        }
+        float easiness = state.getEasiness() + 0.1f - (5 - quality) * (0.08f + (5 - quality) * 0.02f);
+        state.setEasiness(Math.max(MIN_EASINESS, easiness));
+
+        long now = System.currentTimeMillis();
+        state.setReviews(state.getReviews() + 1);
+        state.setLastReviewed(now);
+        state.setDueAt(now + state.getInterval() * STEP_MILLIS);
+        dueQueue.add(new DueEntry(word, state.getDueAt()));
+
+        // Drop stale entries once they outnumber live ones
+        if (dueQueue.size() > 2 * states.size() + 16) {
+            rebuildQueue();
+        }
+    }
+
+    private void rebuildQueue() {
+        List<DueEntry> entries = new ArrayList<>(states.size());
+        for (Map.Entry<String, ReviewState> entry : states.entrySet()) {
+            if (!parked.contains(entry.getKey()) && !skipped.contains(entry.getKey())) {
+                entries.add(new DueEntry(entry.getKey(), entry.getValue().getDueAt()));
+            }
+        }
+        dueQueue.clear();
+        dueQueue.addAll(entries);
+    }
+
+    private static final class DueEntry {
+        final String word;
+        final long dueAt;
+
+        DueEntry(String word, long dueAt) {
+            this.word = word;
+            this.dueAt = dueAt;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ctu.game.isometric.controller.quiz;
+
+import ctu.game.isometric.model.dictionary.Word;
+import ctu.game.isometric.model.dictionary.WordDefinition;
+import ctu.game.isometric.model.game.LetterGrid;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Spell the word from a LetterGrid that hides its letters among random ones
+public class SpellingGenerator implements QuizGenerator {
+
+    @Override
+    public QuizType getType() {
+        return QuizType.SPELLING;
+    }
+
+    @Override
+    public List<Quiz> generate(String word, Word details) {
+        List<Quiz> quizzes = new ArrayList<>();
+        LetterGrid letterGrid = new LetterGrid();
+        if (!letterGrid.regenerateGrid(word)) {
+            return quizzes;
+        }
+
+        String hint = "";
+        for (WordDefinition definition : details.getDefinitions()) {
+            if (definition.getDefinition() != null) {
+                hint = " meaning \"" + definition.getDefinition().split(";")[0].trim() + "\"";
+                break;
+            }
+        }
+
+        StringBuilder question = new StringBuilder("Spell the word").append(hint).append(" from these letters:");
+        for (char[] row : letterGrid.getGrid()) {
+            question.append('\n');
+            for (char letter : row) {
+                question.append(letter).append(' ');
+            }
+        }
+        quizzes.add(new Quiz(QuizType.SPELLING, question.toString(), word, 4, 3));
+        return quizzes;
+    }
+}
@@ -0,0 +1,39 @@
+package ctu.game.isometric.controller.quiz;
+
+import ctu.game.isometric.model.dictionary.Word;
+import ctu.game.isometric.model.dictionary.WordDefinition;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Show synonyms, pick the learned word they belong to; the bank adds other learned words as choices
+public class SynonymPickGenerator implements QuizGenerator {
+    private static final int MAX_SYNONYMS = 3;
+
+    @Override
+    public QuizType getType() {
+        return QuizType.SYNONYM_PICK;
+    }
+
+    @Override
+    public List<Quiz> generate(String word, Word details) {
+        List<Quiz> quizzes = new ArrayList<>();
+        for (WordDefinition definition : details.getDefinitions()) {
+            if (definition.getSynonyms() == null) continue;
+
+            List<String> synonyms = new ArrayList<>();
+            for (String synonym : definition.getSynonyms()) {
+                if (!synonym.equalsIgnoreCase(word) && synonyms.size() < MAX_SYNONYMS) {
+                    synonyms.add(synonym.replace('_', ' '));
+                }
+            }
+            if (!synonyms.isEmpty()) {
+                quizzes.add(new Quiz(QuizType.SYNONYM_PICK,
+                        "Which word is a synonym of: " + String.join(", ", synonyms) + "?", word, 2, 1));
+            }
+        }
+        return quizzes;
+    }
+}
@@ -1,50 +1,42 @@
 package ctu.game.isometric.controller.quiz;
 
-import ctu.game.isometric.util.WordNetValidator;
-
-import java.util.*;
+import ctu.game.isometric.model.quiz.Quiz;
+import ctu.game.isometric.model.quiz.QuizResult;
+import ctu.game.isometric.model.quiz.QuizType;
+import ctu.game.isometric.util.TimerService;
 
 public class TimedQuizSystem extends SymbolicQuizSystem implements QuizTimer.TimerCallback {
+    // Shown when no learned word has a quiz yet
+    private static final Quiz DEFAULT_QUIZ = new Quiz(QuizType.FILL_IN_THE_BLANK,
+            "Fill in the blank: The ____ is a common English greeting.", "HELLO", 1, 10);
+
     private QuizTimer timer;
     private boolean timeExpired;
     private float defaultTimeLimit = 30f; // 30 seconds default
 
-    public TimedQuizSystem(Set<String> learnedWords, WordNetValidator wordNetValidator) {
-        super(learnedWords, wordNetValidator);
-        this.timer = new QuizTimer(defaultTimeLimit, this);
+    // Cache current quiz
+    private Quiz currentQuiz;
+
+    public TimedQuizSystem(QuizBank quizBank, ReviewScheduler reviewScheduler, TimerService timers) {
+        super(quizBank, reviewScheduler);
+        this.timer = new QuizTimer(timers, defaultTimeLimit, this);
         this.timeExpired = false;
     }
 
     @Override
-    public Map<String, Object> generateContextualSentenceQuiz() {
-        Map<String, Object> quizData = super.generateContextualSentenceQuiz();
-
-        if (quizData.containsKey("error")) {
+    public Quiz generateQuiz() {
+        Quiz quiz = super.generateQuiz();
+        if (quiz == null) {
             // Handle error case with a default quiz
-            quizData = createDefaultQuiz();
+            quiz = DEFAULT_QUIZ;
         }
 
-        // Add time limit to the quiz data
-        int difficulty = (int) quizData.getOrDefault("difficulty", 3);
-        float timeLimit = getTimeLimitForDifficulty(difficulty);
-        quizData.put("timeLimit", timeLimit);
         timer.reset();
         timeExpired = false;
 
         // Store the current quiz
-        currentQuiz = quizData;
-
-        return quizData;
-    }
-
-    private Map<String, Object> createDefaultQuiz() {
-        Map<String, Object> quizData = new HashMap<>();
-        quizData.put("type", "contextual_sentence");
-        quizData.put("question", "Fill in the blank: The ____ is a common English greeting.");
-        quizData.put("answer", "HELLO");
-        quizData.put("difficulty", 1);
-        quizData.put("points", 10);
-        return quizData;
+        currentQuiz = quiz;
+        return quiz;
     }
 
     public void startQuiz() {
@@ -53,59 +45,28 @@ public class TimedQuizSystem extends SymbolicQuizSystem implements QuizTimer.Tim
         timeExpired = false;
     }
 
-    public Map<String, Object> submitAnswer(String answer) {
+    public QuizResult submitAnswer(String answer) {
         float timeTaken = timer.getElapsedTime();
         timer.pause();
 
         if (currentQuiz == null) {
-            // Return error if trying to submit answer without an active quiz
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("error", "No active quiz");
-            errorResult.put("correct", false);
-            errorResult.put("score", 0);
-            errorResult.put("timeTaken", timeTaken);
-            return errorResult;
+            // No active quiz
+            return new QuizResult(false, 0, timeTaken, false, "", answer);
         }
 
-        String correctAnswer = (String) currentQuiz.get("answer");
+        String correctAnswer = currentQuiz.getAnswer();
 
         // Thorough normalization: trim spaces and convert to uppercase for consistent comparison
-        String normalizedCorrectAnswer = correctAnswer.trim().toUpperCase();
-        String normalizedUserAnswer = answer.trim().toUpperCase();
-
-        // Exact match after normalization
-        boolean isCorrect = normalizedUserAnswer.equals(normalizedCorrectAnswer);
+        boolean isCorrect = answer.trim().equalsIgnoreCase(correctAnswer.trim());
+        reviewScheduler.recordReview(correctAnswer, isCorrect, timeTaken, timer.getTimeLimit(), timeExpired);
 
-        int difficulty = (int) currentQuiz.getOrDefault("difficulty", 3);
-//        int score = calculateScore(isCorrect, difficulty, (long)(timeTaken * 1000));
- int score = 2;
+        int score = isCorrect ? currentQuiz.getPoints() : 0;
         // Apply time penalty if time expired
         if (timeExpired) {
             score = Math.max(0, score / 2); // 50% penalty for expired time
         }
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("correct", isCorrect);
-        result.put("score", score);
-        result.put("timeTaken", timeTaken);
-        result.put("timeExpired", timeExpired);
-        result.put("correctAnswer", correctAnswer);
-        result.put("userAnswer", answer);
-
-        return result;
-    }
-
-    private float getTimeLimitForDifficulty(int difficulty) {
-        // Harder questions get less time
-        return Math.max(10, defaultTimeLimit - ((difficulty - 1) * 5));
-    }
-
-    // Cache current quiz
-    private Map<String, Object> currentQuiz;
-
-    @Override
-    public void onTimerTick(float timeRemaining) {
-        // Update UI with remaining time - handled by renderer
+        return new QuizResult(isCorrect, score, timeTaken, timeExpired, correctAnswer, answer);
     }
 
     @Override
@@ -121,4 +82,4 @@ public class TimedQuizSystem extends SymbolicQuizSystem implements QuizTimer.Tim
     public QuizTimer getTimer() {
         return timer;
     }
-}
\ No newline at end of file
+}
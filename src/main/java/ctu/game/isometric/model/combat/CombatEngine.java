@@ -0,0 +1,182 @@
+package ctu.game.isometric.model.combat;
+
+import ctu.game.isometric.model.entity.Character;
+import ctu.game.isometric.model.entity.Enemy;
+import ctu.game.isometric.model.game.Items;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Turn-based word battle as pure logic. Player commands (castWord, useItem) and the clock
+ * (update) turn into CombatEvents; each event is applied to the CombatState, appended to the
+ * history and passed to the listener, which is how a view plays effects and messages.
+ *
+ * Nothing here touches libGDX, so battles can run headless: pass a seeded Random and feed
+ * update() whole turn delays to play a battle out in microseconds.
+ */
+public class CombatEngine {
+    public interface Listener {
+        // Called after the event has been applied to the state
+        void onCombatEvent(CombatEvent event, CombatState state);
+    }
+
+    private final CombatRules rules;
+    private final Random random;
+    private final Enemy enemy;
+    private final CombatState initialState;
+    private final CombatState state;
+    private final List<CombatEvent> history = new ArrayList<>();
+    private Listener listener;
+
+    private float enemyTimer = 0;
+    private float resolveTimer = 0;
+
+    public CombatEngine(CombatRules rules, Random random, Character player, Enemy enemy) {
+        this.rules = rules;
+        this.random = random;
+        this.enemy = enemy;
+        this.initialState = new CombatState(player.getHealth(), player.getMaxHealth(), player.getDamage(),
+                enemy.getHealth(), enemy.getHealth());
+        this.state = new CombatState(initialState);
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // The player may cast or use an item; false while waiting on the enemy or a finishing blow
+    public boolean canAct() {
+        return state.isPlayerTurn() && !state.isFinished()
+                && state.getPlayerHealth() > 0 && state.getEnemyHealth() > 0;
+    }
+
+    // Player turn: hit the enemy with a validated word worth points. Returns the damage dealt.
+    public float castWord(String word, int points) {
+        if (!canAct()) return -1;
+
+        float damage = points * state.getDamageMultiplier();
+        damage = Math.max(0, Math.min(damage, state.getEnemyHealth()));
+        emit(CombatEvent.Type.WORD_CAST, damage, word);
+        if (state.getEnemyHealth() > 0) {
+            emit(CombatEvent.Type.ENEMY_TURN, 0, null);
+        }
+        resolveTimer = rules.getResolveDelay();
+        return damage;
+    }
+
+    // Player turn: apply an item's battle effect and pass the turn. The caller owns the inventory.
+    public boolean useItem(Items item) {
+        if (item == null || !canAct()) return false;
+
+        String effect = item.getItemEffect() == null ? "" : item.getItemEffect();
+        switch (effect) {
+            case "heal":
+                emit(CombatEvent.Type.ITEM_HEAL, item.getValue(), item.getItemName());
+                break;
+            case "buff":
+                emit(CombatEvent.Type.ITEM_BUFF, item.getValue(), item.getItemName());
+                break;
+            default:
+                emit(CombatEvent.Type.ITEM_USED, 0, item.getItemName());
+                break;
+        }
+        emit(CombatEvent.Type.ENEMY_TURN, 0, null);
+        return true;
+    }
+
+    public void update(float delta) {
+        if (state.isFinished()) return;
+
+        // Outcome is checked a moment after each hit so the view can play it out
+        if (resolveTimer > 0) {
+            resolveTimer -= delta;
+            if (resolveTimer <= 0) {
+                resolveTimer = 0;
+                checkEnd();
+                if (state.isFinished()) return;
+            }
+        }
+
+        if (!state.isPlayerTurn()) {
+            enemyTimer += delta;
+            if (enemyTimer >= rules.getEnemyTurnDelay()) {
+                enemyTimer = 0;
+                performEnemyAction();
+            }
+        }
+    }
+
+    private void performEnemyAction() {
+        int total = rules.getAttackWeight() + rules.getPowerAttackWeight() + rules.getHealWeight();
+        int action = total > 0 ? random.nextInt(total) : 0;
+
+        if (action < rules.getAttackWeight() || total <= 0) {
+            emit(CombatEvent.Type.ENEMY_ATTACK, rollAttack(), null);
+        } else if (action < rules.getAttackWeight() + rules.getPowerAttackWeight()) {
+            float damage = rollAttack() + roll(rules.getPowerBonusMin(), rules.getPowerBonusMax());
+            emit(CombatEvent.Type.ENEMY_POWER_ATTACK, damage, null);
+        } else {
+            emit(CombatEvent.Type.ENEMY_HEAL, roll(rules.getHealMin(), rules.getHealMax()), null);
+        }
+        emit(CombatEvent.Type.PLAYER_TURN, 0, null);
+        resolveTimer = rules.getResolveDelay();
+    }
+
+    private float rollAttack() {
+        return roll(rules.getAttackRollMin(), rules.getAttackRollMax()) * enemy.getAttackPower();
+    }
+
+    private int roll(int min, int max) {
+        return max > min ? min + random.nextInt(max - min + 1) : min;
+    }
+
+    private void checkEnd() {
+        if (state.getPlayerHealth() <= 0) {
+            emit(CombatEvent.Type.DEFEAT, 0, null);
+        } else if (state.getEnemyHealth() <= 0) {
+            emit(CombatEvent.Type.VICTORY, 0, null);
+        }
+    }
+
+    private void emit(CombatEvent.Type type, float amount, String source) {
+        CombatEvent event = new CombatEvent(type, amount, source);
+        state.apply(event);
+        history.add(event);
+        if (listener != null) {
+            listener.onCombatEvent(event, state);
+        }
+    }
+
+    // Rebuild the state after the first count events, e.g. to step back through a battle
+    public CombatState replay(int count) {
+        CombatState replayed = new CombatState(initialState);
+        for (int i = 0; i < count && i < history.size(); i++) {
+            replayed.apply(history.get(i));
+        }
+        return replayed;
+    }
+
+    public CombatState getState() {
+        return state;
+    }
+
+    public Enemy getEnemy() {
+        return enemy;
+    }
+
+    public CombatRules getRules() {
+        return rules;
+    }
+
+    public List<CombatEvent> getHistory() {
+        return Collections.unmodifiableList(history);
+    }
+
+    // Seconds until the enemy acts, 0 on the player's turn
+    public float getEnemyTurnRemaining() {
+        return state.isPlayerTurn() ? 0 : Math.max(0, rules.getEnemyTurnDelay() - enemyTimer);
+    }
+}
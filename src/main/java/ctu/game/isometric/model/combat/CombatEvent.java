@@ -0,0 +1,45 @@
+package ctu.game.isometric.model.combat;
+
+// One thing that happened in a battle. CombatState.apply is the only way state changes.
+public final class CombatEvent {
+    public enum Type {
+        WORD_CAST,          // amount: damage to the enemy, source: the word
+        ITEM_HEAL,          // amount: health restored, source: the item
+        ITEM_BUFF,          // amount: added to the damage multiplier, source: the item
+        ITEM_USED,          // item with no combat effect, source: the item
+        ENEMY_ATTACK,       // amount: damage to the player
+        ENEMY_POWER_ATTACK, // amount: damage to the player, base roll plus bonus
+        ENEMY_HEAL,         // amount: health restored to the enemy
+        PLAYER_TURN,
+        ENEMY_TURN,
+        VICTORY,
+        DEFEAT
+    }
+
+    private final Type type;
+    private final float amount;
+    private final String source;
+
+    public CombatEvent(Type type, float amount, String source) {
+        this.type = type;
+        this.amount = amount;
+        this.source = source;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public float getAmount() {
+        return amount;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source == null ? type + " " + amount : type + " " + amount + " (" + source + ")";
+    }
+}
@@ -0,0 +1,132 @@
+package ctu.game.isometric.model.combat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Tunable numbers for battles, read from game/combat.json. The defaults here are the values
+ * the game shipped with, so a missing or partial file plays the same as before.
+ */
+public class CombatRules {
+    private float enemyTurnDelay = 2.5f;
+    private float resolveDelay = 0.5f;
+    private int minWordLength = 3;
+
+    // Enemy action odds, as relative weights
+    private int attackWeight = 7;
+    private int powerAttackWeight = 2;
+    private int healWeight = 1;
+
+    // Inclusive rolls; attacks are multiplied by the enemy's attack power
+    private int attackRollMin = 3;
+    private int attackRollMax = 10;
+    private int powerBonusMin = 1;
+    private int powerBonusMax = 5;
+    private int healMin = 3;
+    private int healMax = 10;
+
+    public static CombatRules read(InputStream input) throws IOException {
+        ObjectMapper mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper.readValue(input, CombatRules.class);
+    }
+
+    public float getEnemyTurnDelay() {
+        return enemyTurnDelay;
+    }
+
+    public void setEnemyTurnDelay(float enemyTurnDelay) {
+        this.enemyTurnDelay = enemyTurnDelay;
+    }
+
+    public float getResolveDelay() {
+        return resolveDelay;
+    }
+
+    public void setResolveDelay(float resolveDelay) {
+        this.resolveDelay = resolveDelay;
+    }
+
+    public int getMinWordLength() {
+        return minWordLength;
+    }
+
+    public void setMinWordLength(int minWordLength) {
+        this.minWordLength = minWordLength;
+    }
+
+    public int getAttackWeight() {
+        return attackWeight;
+    }
+
+    public void setAttackWeight(int attackWeight) {
+        this.attackWeight = attackWeight;
+    }
+
+    public int getPowerAttackWeight() {
+        return powerAttackWeight;
+    }
+
+    public void setPowerAttackWeight(int powerAttackWeight) {
+        this.powerAttackWeight = powerAttackWeight;
+    }
+
+    public int getHealWeight() {
+        return healWeight;
+    }
+
+    public void setHealWeight(int healWeight) {
+        this.healWeight = healWeight;
+    }
+
+    public int getAttackRollMin() {
+        return attackRollMin;
+    }
+
+    public void setAttackRollMin(int attackRollMin) {
+        this.attackRollMin = attackRollMin;
+    }
+
+    public int getAttackRollMax() {
+        return attackRollMax;
+    }
+
+    public void setAttackRollMax(int attackRollMax) {
+        this.attackRollMax = attackRollMax;
+    }
+
+    public int getPowerBonusMin() {
+        return powerBonusMin;
+    }
+
+    public void setPowerBonusMin(int powerBonusMin) {
+        this.powerBonusMin = powerBonusMin;
+    }
+
+    public int getPowerBonusMax() {
+        return powerBonusMax;
+    }
+
+    public void setPowerBonusMax(int powerBonusMax) {
+        this.powerBonusMax = powerBonusMax;
+    }
+
+    public int getHealMin() {
+        return healMin;
+    }
+
+    public void setHealMin(int healMin) {
+        this.healMin = healMin;
+    }
+
+    public int getHealMax() {
+        return healMax;
+    }
+
+    public void setHealMax(int healMax) {
+        this.healMax = healMax;
+    }
+}
@@ -0,0 +1,99 @@
+package ctu.game.isometric.model.combat;
+
+// Health, turn and outcome of a battle, rebuilt from nothing but its starting values and events
+public class CombatState {
+    public enum Outcome { ONGOING, VICTORY, DEFEAT }
+
+    private float playerHealth;
+    private final float playerMaxHealth;
+    private float enemyHealth;
+    private final float enemyMaxHealth;
+    private float damageMultiplier;
+    private boolean playerTurn = true;
+    private Outcome outcome = Outcome.ONGOING;
+
+    public CombatState(float playerHealth, float playerMaxHealth, float damageMultiplier,
+                       float enemyHealth, float enemyMaxHealth) {
+        this.playerHealth = playerHealth;
+        this.playerMaxHealth = playerMaxHealth;
+        this.damageMultiplier = damageMultiplier;
+        this.enemyHealth = enemyHealth;
+        this.enemyMaxHealth = enemyMaxHealth;
+    }
+
+    public CombatState(CombatState other) {
+        this(other.playerHealth, other.playerMaxHealth, other.damageMultiplier,
+                other.enemyHealth, other.enemyMaxHealth);
+        this.playerTurn = other.playerTurn;
+        this.outcome = other.outcome;
+    }
+
+    public void apply(CombatEvent event) {
+        switch (event.getType()) {
+            case WORD_CAST:
+                enemyHealth -= event.getAmount();
+                break;
+            case ITEM_HEAL:
+                playerHealth = Math.min(playerMaxHealth, playerHealth + event.getAmount());
+                break;
+            case ITEM_BUFF:
+                damageMultiplier += event.getAmount();
+                break;
+            case ENEMY_ATTACK:
+            case ENEMY_POWER_ATTACK:
+                playerHealth -= event.getAmount();
+                break;
+            case ENEMY_HEAL:
+                enemyHealth = Math.min(enemyMaxHealth, enemyHealth + event.getAmount());
+                break;
+            case PLAYER_TURN:
+                playerTurn = true;
+                break;
+            case ENEMY_TURN:
+                playerTurn = false;
+                break;
+            case VICTORY:
+                enemyHealth = 0;
+                outcome = Outcome.VICTORY;
+                break;
+            case DEFEAT:
+                playerHealth = 0;
+                outcome = Outcome.DEFEAT;
+                break;
+            default:
+                break;
+        }
+    }
+
+    public float getPlayerHealth() {
+        return playerHealth;
+    }
+
+    public float getPlayerMaxHealth() {
+        return playerMaxHealth;
+    }
+
+    public float getEnemyHealth() {
+        return enemyHealth;
+    }
+
+    public float getEnemyMaxHealth() {
+        return enemyMaxHealth;
+    }
+
+    public float getDamageMultiplier() {
+        return damageMultiplier;
+    }
+
+    public boolean isPlayerTurn() {
+        return playerTurn;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isFinished() {
+        return outcome != Outcome.ONGOING;
+    }
+}
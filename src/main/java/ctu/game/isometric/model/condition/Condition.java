@@ -0,0 +1,144 @@
+package ctu.game.isometric.model.condition;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A compiled gating condition for scenes, choices and map events. Parsed once from either
+ * an expression such as {@code item("Magic Book") >= 1 && !flag(met_learna)} or the
+ * key/value form used by Scene.conditions; test() walks the compiled tree without
+ * allocating. Flag and quest names are interned to ids at compile time.
+ */
+public final class Condition {
+    public static final Condition ALWAYS = new Condition("true", new Expr.Constant(1));
+
+    private final String source;
+    private final Expr root;
+
+    Condition(String source, Expr root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    public boolean test(ConditionContext ctx) {
+        return root.eval(ctx) != 0;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    // Parse an expression; throws IllegalArgumentException with the position of the error
+    public static Condition parse(String source) {
+        return new Condition(source, new ConditionParser(source).parse());
+    }
+
+    // Parse for content loading: errors are logged against owner and the condition always passes
+    public static Condition compile(String source, String owner) {
+        if (source == null || source.trim().isEmpty()) return ALWAYS;
+        try {
+            return parse(source);
+        } catch (IllegalArgumentException e) {
+            Gdx.app.error("Condition", "Ignoring bad condition on " + owner + ": " + e.getMessage());
+            return ALWAYS;
+        }
+    }
+
+    /**
+     * Compile the key/value form, all entries ANDed:
+     * required_item(s), flag(s), not_flag(s), quest(s), defeated_enemy/defeated_enemies,
+     * min_learned_words, min_health, min_score, and expr for a full expression.
+     * Unsupported keys are logged and skipped.
+     */
+    public static Condition compile(Map<String, Object> conditions, String owner) {
+        if (conditions == null || conditions.isEmpty()) return ALWAYS;
+
+        Expr root = null;
+        StringBuilder source = new StringBuilder();
+        for (Map.Entry<String, Object> entry : conditions.entrySet()) {
+            Expr term;
+            try {
+                term = compileEntry(entry.getKey(), entry.getValue());
+            } catch (IllegalArgumentException | ClassCastException e) {
+                Gdx.app.error("Condition", "Ignoring bad condition " + entry.getKey() + " on " + owner + ": " + e.getMessage());
+                continue;
+            }
+            if (term == null) {
+                Gdx.app.error("Condition", "Ignoring unsupported condition " + entry.getKey() + " on " + owner);
+                continue;
+            }
+            root = root == null ? term : new Expr.And(root, term);
+        }
+        if (root == null) return ALWAYS;
+        return new Condition(root.toString(), root);
+    }
+
+    private static Expr compileEntry(String key, Object value) {
+        switch (key) {
+            case "expr":
+            case "condition":
+                return new ConditionParser(String.valueOf(value)).parse();
+            case "required_item":
+            case "required_items": {
+                Expr all = null;
+                for (Object item : values(value)) {
+                    Expr term = new Expr.Compare(Expr.Op.GE, new Expr.ItemCount(String.valueOf(item)), new Expr.Constant(1));
+                    all = all == null ? term : new Expr.And(all, term);
+                }
+                return all == null ? new Expr.Constant(1) : all;
+            }
+            case "flag":
+            case "flags":
+                return allOf(value, name -> new Expr.Flag(name));
+            case "not_flag":
+            case "not_flags":
+                return allOf(value, name -> new Expr.Not(new Expr.Flag(name)));
+            case "quest":
+            case "quests":
+                return allOf(value, name -> new Expr.Quest(name));
+            case "defeated_enemy":
+            case "defeated_enemies":
+                return allOf(value, id -> new Expr.Defeated(Integer.parseInt(id)));
+            case "min_learned_words":
+                return atLeast(Expr.Stat.WORDS, value);
+            case "min_health":
+                return atLeast(Expr.Stat.HEALTH, value);
+            case "min_score":
+                return atLeast(Expr.Stat.SCORE, value);
+            default:
+                return null;
+        }
+    }
+
+    private interface TermFactory {
+        Expr create(String name);
+    }
+
+    private static Expr allOf(Object value, TermFactory factory) {
+        Expr all = null;
+        for (Object name : values(value)) {
+            Expr term = factory.create(String.valueOf(name));
+            all = all == null ? term : new Expr.And(all, term);
+        }
+        return all == null ? new Expr.Constant(1) : all;
+    }
+
+    private static Expr atLeast(Expr.Stat stat, Object value) {
+        int minimum = value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(String.valueOf(value).trim());
+        return new Expr.Compare(Expr.Op.GE, new Expr.StatValue(stat), new Expr.Constant(minimum));
+    }
+
+    private static Collection<?> values(Object value) {
+        if (value == null) return Collections.emptyList();
+        if (value instanceof Collection) return (Collection<?>) value;
+        return Collections.singletonList(value);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
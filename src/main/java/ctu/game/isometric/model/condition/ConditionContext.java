@@ -0,0 +1,22 @@
+package ctu.game.isometric.model.condition;
+
+// Game state a Condition is evaluated against; implementations should not allocate
+public interface ConditionContext {
+    boolean hasFlag(int flagId);
+
+    boolean hasQuest(int questId);
+
+    int getItemCount(String item);
+
+    boolean hasBuff(int statusId);
+
+    boolean hasDebuff(int statusId);
+
+    boolean isEnemyDefeated(int enemyId);
+
+    int getLearnedWordCount();
+
+    int getHealth();
+
+    int getScore();
+}
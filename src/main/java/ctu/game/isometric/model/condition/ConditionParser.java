@@ -0,0 +1,199 @@
+package ctu.game.isometric.model.condition;
+
+/**
+ * Recursive-descent parser for condition expressions:
+ * <pre>
+ * or      := and (("||" | "or") and)*
+ * and     := not (("&&" | "and") not)*
+ * not     := ("!" | "not") not | compare
+ * compare := primary (("==" | "!=" | "<" | "<=" | ">" | ">=") primary)?
+ * primary := "(" or ")" | number | "true" | "false" | words | health | score
+ *          | flag(name) | quest(name) | item(name) | buff(name) | debuff(name) | defeated(id)
+ *          | name                       (shorthand for flag(name))
+ * </pre>
+ * Names are bare identifiers or quoted strings. item() is a count, the rest are 0 or 1.
+ */
+class ConditionParser {
+    private final String text;
+    private int pos = 0;
+
+    ConditionParser(String text) {
+        this.text = text == null ? "" : text;
+    }
+
+    Expr parse() {
+        Expr expr = parseOr();
+        skipSpace();
+        if (pos < text.length()) throw error("unexpected '" + text.charAt(pos) + "'");
+        return expr;
+    }
+
+    private Expr parseOr() {
+        Expr left = parseAnd();
+        while (accept("||") || acceptWord("or")) {
+            left = new Expr.Or(left, parseAnd());
+        }
+        return left;
+    }
+
+    private Expr parseAnd() {
+        Expr left = parseNot();
+        while (accept("&&") || acceptWord("and")) {
+            left = new Expr.And(left, parseNot());
+        }
+        return left;
+    }
+
+    private Expr parseNot() {
+        if (acceptWord("not")) return new Expr.Not(parseNot());
+        skipSpace();
+        // "!" but not "!="
+        if (pos < text.length() && text.charAt(pos) == '!' && !text.startsWith("!=", pos)) {
+            pos++;
+            return new Expr.Not(parseNot());
+        }
+        return parseCompare();
+    }
+
+    private Expr parseCompare() {
+        Expr left = parsePrimary();
+        Expr.Op op = acceptOperator();
+        return op == null ? left : new Expr.Compare(op, left, parsePrimary());
+    }
+
+    private Expr.Op acceptOperator() {
+        if (accept("==")) return Expr.Op.EQ;
+        if (accept("!=")) return Expr.Op.NE;
+        if (accept("<=")) return Expr.Op.LE;
+        if (accept(">=")) return Expr.Op.GE;
+        if (accept("<")) return Expr.Op.LT;
+        if (accept(">")) return Expr.Op.GT;
+        return null;
+    }
+
+    private Expr parsePrimary() {
+        skipSpace();
+        if (pos >= text.length()) throw error("expression ends early");
+
+        char c = text.charAt(pos);
+        if (c == '(') {
+            pos++;
+            Expr inner = parseOr();
+            expect(')');
+            return inner;
+        }
+        if (c == '-' || Character.isDigit(c)) {
+            return new Expr.Constant(parseNumber());
+        }
+        if (c == '"' || c == '\'') {
+            // A quoted name on its own is a flag
+            return new Expr.Flag(parseString());
+        }
+
+        String word = parseIdentifier();
+        switch (word) {
+            case "true": return new Expr.Constant(1);
+            case "false": return new Expr.Constant(0);
+            case "words": return new Expr.StatValue(Expr.Stat.WORDS);
+            case "health": return new Expr.StatValue(Expr.Stat.HEALTH);
+            case "score": return new Expr.StatValue(Expr.Stat.SCORE);
+        }
+        if (!acceptChar('(')) {
+            return new Expr.Flag(word);
+        }
+
+        Expr call;
+        switch (word) {
+            case "flag": call = new Expr.Flag(parseName()); break;
+            case "quest": call = new Expr.Quest(parseName()); break;
+            case "item": call = new Expr.ItemCount(parseName()); break;
+            case "buff": call = new Expr.Status(parseName(), true); break;
+            case "debuff": call = new Expr.Status(parseName(), false); break;
+            case "defeated": call = new Expr.Defeated(parseNumber()); break;
+            default: throw error("unknown function " + word);
+        }
+        expect(')');
+        return call;
+    }
+
+    private String parseName() {
+        skipSpace();
+        if (pos < text.length() && (text.charAt(pos) == '"' || text.charAt(pos) == '\'')) {
+            return parseString();
+        }
+        return parseIdentifier();
+    }
+
+    private String parseString() {
+        char quote = text.charAt(pos++);
+        int end = text.indexOf(quote, pos);
+        if (end < 0) throw error("unterminated string");
+        String value = text.substring(pos, end);
+        pos = end + 1;
+        return value;
+    }
+
+    private String parseIdentifier() {
+        skipSpace();
+        int start = pos;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.' && c != '-') break;
+            pos++;
+        }
+        if (start == pos) throw error("expected a name");
+        return text.substring(start, pos);
+    }
+
+    private int parseNumber() {
+        skipSpace();
+        int start = pos;
+        if (pos < text.length() && text.charAt(pos) == '-') pos++;
+        while (pos < text.length() && Character.isDigit(text.charAt(pos))) pos++;
+        try {
+            return Integer.parseInt(text.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("expected a number");
+        }
+    }
+
+    private boolean accept(String token) {
+        skipSpace();
+        if (text.startsWith(token, pos)) {
+            pos += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptChar(char c) {
+        skipSpace();
+        if (pos < text.length() && text.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    // Keyword match that doesn't swallow the start of a longer identifier
+    private boolean acceptWord(String word) {
+        skipSpace();
+        int end = pos + word.length();
+        if (!text.startsWith(word, pos)) return false;
+        if (end < text.length() && (Character.isLetterOrDigit(text.charAt(end)) || text.charAt(end) == '_')) return false;
+        pos = end;
+        return true;
+    }
+
+    private void expect(char c) {
+        if (!acceptChar(c)) throw error("expected '" + c + "'");
+    }
+
+    private void skipSpace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at " + pos + " in \"" + text + "\"");
+    }
+}
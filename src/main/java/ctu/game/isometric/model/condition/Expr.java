@@ -0,0 +1,244 @@
+package ctu.game.isometric.model.condition;
+
+import ctu.game.isometric.model.game.SymbolTable;
+
+// Compiled expression tree. Everything evaluates to an int; booleans are 0 and 1.
+abstract class Expr {
+    abstract int eval(ConditionContext ctx);
+
+    static int bool(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    static final class Constant extends Expr {
+        private final int value;
+
+        Constant(int value) {
+            this.value = value;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toString(value);
+        }
+    }
+
+    static final class Not extends Expr {
+        private final Expr operand;
+
+        Not(Expr operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return bool(operand.eval(ctx) == 0);
+        }
+
+        @Override
+        public String toString() {
+            return "!" + operand;
+        }
+    }
+
+    static final class And extends Expr {
+        private final Expr left, right;
+
+        And(Expr left, Expr right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return bool(left.eval(ctx) != 0 && right.eval(ctx) != 0);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " && " + right + ")";
+        }
+    }
+
+    static final class Or extends Expr {
+        private final Expr left, right;
+
+        Or(Expr left, Expr right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return bool(left.eval(ctx) != 0 || right.eval(ctx) != 0);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " || " + right + ")";
+        }
+    }
+
+    enum Op {
+        EQ("=="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">=");
+
+        final String symbol;
+
+        Op(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    static final class Compare extends Expr {
+        private final Op op;
+        private final Expr left, right;
+
+        Compare(Op op, Expr left, Expr right) {
+            this.op = op;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            int a = left.eval(ctx);
+            int b = right.eval(ctx);
+            switch (op) {
+                case EQ: return bool(a == b);
+                case NE: return bool(a != b);
+                case LT: return bool(a < b);
+                case LE: return bool(a <= b);
+                case GT: return bool(a > b);
+                default: return bool(a >= b);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " " + op.symbol + " " + right + ")";
+        }
+    }
+
+    static final class Flag extends Expr {
+        private final int id;
+
+        Flag(String name) {
+            this.id = SymbolTable.FLAGS.intern(name);
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return bool(ctx.hasFlag(id));
+        }
+
+        @Override
+        public String toString() {
+            return "flag(" + SymbolTable.FLAGS.nameOf(id) + ")";
+        }
+    }
+
+    static final class Quest extends Expr {
+        private final int id;
+
+        Quest(String name) {
+            this.id = SymbolTable.QUESTS.intern(name);
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return bool(ctx.hasQuest(id));
+        }
+
+        @Override
+        public String toString() {
+            return "quest(" + SymbolTable.QUESTS.nameOf(id) + ")";
+        }
+    }
+
+    static final class ItemCount extends Expr {
+        private final String item;
+
+        ItemCount(String item) {
+            this.item = item;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return ctx.getItemCount(item);
+        }
+
+        @Override
+        public String toString() {
+            return "item(" + item + ")";
+        }
+    }
+
+    static final class Status extends Expr {
+        private final int id;
+        private final boolean buff;
+
+        Status(String name, boolean buff) {
+            this.id = SymbolTable.STATUS.intern(name);
+            this.buff = buff;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return bool(buff ? ctx.hasBuff(id) : ctx.hasDebuff(id));
+        }
+
+        @Override
+        public String toString() {
+            return (buff ? "buff(" : "debuff(") + SymbolTable.STATUS.nameOf(id) + ")";
+        }
+    }
+
+    static final class Defeated extends Expr {
+        private final int enemyId;
+
+        Defeated(int enemyId) {
+            this.enemyId = enemyId;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            return bool(ctx.isEnemyDefeated(enemyId));
+        }
+
+        @Override
+        public String toString() {
+            return "defeated(" + enemyId + ")";
+        }
+    }
+
+    enum Stat {
+        WORDS, HEALTH, SCORE
+    }
+
+    static final class StatValue extends Expr {
+        private final Stat stat;
+
+        StatValue(Stat stat) {
+            this.stat = stat;
+        }
+
+        @Override
+        int eval(ConditionContext ctx) {
+            switch (stat) {
+                case WORDS: return ctx.getLearnedWordCount();
+                case HEALTH: return ctx.getHealth();
+                default: return ctx.getScore();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return stat.name().toLowerCase();
+        }
+    }
+}
@@ -8,6 +8,7 @@ public class Choice {
     private String next_scene;
     private String required_item;
     private String reward_item;
+    private String condition; // optional; the choice is hidden unless it holds
     // Getters and setters
 
     public String getText() {
@@ -34,6 +35,14 @@ public class Choice {
         this.required_item = required_item;
     }
 
+    public String getCondition() {
+        return condition;
+    }
+
+    public void setCondition(String condition) {
+        this.condition = condition;
+    }
+
     public String getReward_item() {
         return reward_item;
     }
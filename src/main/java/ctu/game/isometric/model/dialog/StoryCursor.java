@@ -0,0 +1,110 @@
+package ctu.game.isometric.model.dialog;
+
+import ctu.game.isometric.model.condition.ConditionContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Current position in the story: a scene, a dialogue line in it, and the choice menu state
+public class StoryCursor {
+    private final ConditionContext conditions;
+    private StoryGraph.SceneNode scene;
+    private int dialogIndex;
+    private boolean showingChoices;
+    private int selectedChoice;
+
+    // Choices whose conditions held when the menu opened, and their indexes in the scene
+    private final List<Choice> visibleChoices = new ArrayList<>();
+    private final List<Choice> visibleView = Collections.unmodifiableList(visibleChoices);
+    private int[] visibleIndexes = new int[4];
+
+    public StoryCursor(ConditionContext conditions) {
+        this.conditions = conditions;
+    }
+
+    public void moveTo(StoryGraph.SceneNode scene) {
+        this.scene = scene;
+        dialogIndex = 0;
+        showingChoices = false;
+        selectedChoice = 0;
+        visibleChoices.clear();
+    }
+
+    public void clear() {
+        moveTo(null);
+    }
+
+    // Step to the next line, or to the choices after the last one. False when the scene is over.
+    public boolean advance() {
+        if (scene == null) return false;
+        if (showingChoices) return true;
+
+        dialogIndex++;
+        if (dialogIndex < scene.getDialogueCount()) return true;
+        if (collectVisibleChoices()) {
+            showingChoices = true;
+            selectedChoice = 0;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean collectVisibleChoices() {
+        visibleChoices.clear();
+        List<Choice> choices = scene.getChoices();
+        if (visibleIndexes.length < choices.size()) {
+            visibleIndexes = new int[choices.size()];
+        }
+        for (int i = 0; i < choices.size(); i++) {
+            if (scene.getChoiceCondition(i).test(conditions)) {
+                visibleIndexes[visibleChoices.size()] = i;
+                visibleChoices.add(choices.get(i));
+            }
+        }
+        return !visibleChoices.isEmpty();
+    }
+
+    public boolean isActive() {
+        return scene != null;
+    }
+
+    public StoryGraph.SceneNode getScene() {
+        return scene;
+    }
+
+    public Dialog getDialog() {
+        return scene == null || showingChoices ? null : scene.getDialogue(dialogIndex);
+    }
+
+    public boolean isShowingChoices() {
+        return showingChoices;
+    }
+
+    // Choices on offer; indexes into this list are what the player selects
+    public List<Choice> getChoices() {
+        return showingChoices ? visibleView : Collections.emptyList();
+    }
+
+    // Scene choice index of an offered choice
+    public int getSceneChoiceIndex(int visibleIndex) {
+        return visibleIndexes[visibleIndex];
+    }
+
+    public int getSelectedChoice() {
+        return selectedChoice;
+    }
+
+    public void selectNext() {
+        if (showingChoices && !visibleChoices.isEmpty()) {
+            selectedChoice = (selectedChoice + 1) % visibleChoices.size();
+        }
+    }
+
+    public void selectPrevious() {
+        if (showingChoices && !visibleChoices.isEmpty()) {
+            int count = visibleChoices.size();
+            selectedChoice = (selectedChoice - 1 + count) % count;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package ctu.game.isometric.model.dialog;
+
+import com.badlogic.gdx.Gdx;
+import ctu.game.isometric.model.condition.Condition;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Story arcs compiled for lookup: scenes indexed by arc and scene ID, dialogues in arrays
+ * and every choice's next_scene resolved to the target node. Arcs compile independently
+ * (links never cross arcs), so they can be added and dropped one at a time. Links are
+ * checked while compiling; broken ones are logged and left unresolved rather than failing
+ * the load.
+ */
+public class StoryGraph {
+    // Scene players are sent to when a choice needs an item they don't have
+    public static final String NOT_ENOUGH_ITEM_SCENE = "scene_not_enough_item";
+
+    private final Map<String, ArcNode> arcs = new HashMap<>();
+
+    // Compile one arc, or null if it has no id
+    public static ArcNode compileArc(Arc arc) {
+        if (arc == null || arc.getId() == null) {
+            Gdx.app.error("StoryGraph", "Skipping arc without an id");
+            return null;
+        }
+        ArcNode node = new ArcNode(arc.getId());
+        if (arc.getScenes() != null) {
+            for (Scene scene : arc.getScenes()) {
+                if (scene == null || scene.getId() == null) {
+                    Gdx.app.error("StoryGraph", "Skipping scene without an id in arc " + arc.getId());
+                    continue;
+                }
+                SceneNode sceneNode = new SceneNode(arc.getId(), scene);
+                sceneNode.compileConditions();
+                if (node.scenes.put(scene.getId(), sceneNode) != null) {
+                    Gdx.app.error("StoryGraph", "Duplicate scene " + arc.getId() + "/" + scene.getId());
+                }
+            }
+        }
+        for (SceneNode scene : node.scenes.values()) {
+            node.link(scene);
+        }
+        return node;
+    }
+
+    public void put(ArcNode arc) {
+        arcs.put(arc.id, arc);
+    }
+
+    public ArcNode remove(String arcId) {
+        return arcs.remove(arcId);
+    }
+
+    public boolean contains(String arcId) {
+        return arcs.containsKey(arcId);
+    }
+
+    public ArcNode getArc(String arcId) {
+        return arcs.get(arcId);
+    }
+
+    public SceneNode getScene(String arcId, String sceneId) {
+        ArcNode arc = arcs.get(arcId);
+        return arc == null ? null : arc.getScene(sceneId);
+    }
+
+    public int getArcCount() {
+        return arcs.size();
+    }
+
+    public int getSceneCount() {
+        int count = 0;
+        for (ArcNode arc : arcs.values()) {
+            count += arc.getSceneCount();
+        }
+        return count;
+    }
+
+    public int getBrokenLinkCount() {
+        int count = 0;
+        for (ArcNode arc : arcs.values()) {
+            count += arc.getBrokenLinkCount();
+        }
+        return count;
+    }
+
+    public static final class ArcNode {
+        private final String id;
+        private final Map<String, SceneNode> scenes = new HashMap<>();
+        private int brokenLinkCount = 0;
+
+        private ArcNode(String id) {
+            this.id = id;
+        }
+
+        private void link(SceneNode node) {
+            node.notEnoughItem = scenes.get(NOT_ENOUGH_ITEM_SCENE);
+            boolean itemGated = false;
+            for (int i = 0; i < node.targets.length; i++) {
+                Choice choice = node.choices.get(i);
+                itemGated |= choice.getRequired_item() != null;
+                String target = choice.getNext_scene();
+                if (target == null) continue;
+
+                node.targets[i] = scenes.get(target);
+                if (node.targets[i] == null) {
+                    brokenLinkCount++;
+                    Gdx.app.error("StoryGraph", "Broken link " + id + "/" + node.getId()
+                            + " choice \"" + choice.getText() + "\" -> " + target);
+                }
+            }
+            if (itemGated && node.notEnoughItem == null) {
+                Gdx.app.error("StoryGraph", "Scene " + id + "/" + node.getId()
+                        + " has item-gated choices but its arc has no " + NOT_ENOUGH_ITEM_SCENE);
+            }
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public SceneNode getScene(String sceneId) {
+            return scenes.get(sceneId);
+        }
+
+        public int getSceneCount() {
+            return scenes.size();
+        }
+
+        public int getBrokenLinkCount() {
+            return brokenLinkCount;
+        }
+    }
+
+    public static final class SceneNode {
+        private final String arcId;
+        private final Scene scene;
+        private final Dialog[] dialogues;
+        private final List<Choice> choices;
+        private final SceneNode[] targets;
+        private final Condition[] choiceConditions;
+        private Condition condition = Condition.ALWAYS;
+        private SceneNode notEnoughItem;
+
+        // Nodes outside any graph, e.g. one-off system messages, have no links
+        public SceneNode(String arcId, Scene scene) {
+            this.arcId = arcId;
+            this.scene = scene;
+            this.dialogues = scene.getDialogues() == null
+                    ? new Dialog[0] : scene.getDialogues().toArray(new Dialog[0]);
+            this.choices = scene.getChoices() == null
+                    ? Collections.emptyList() : Collections.unmodifiableList(scene.getChoices());
+            this.targets = new SceneNode[choices.size()];
+            this.choiceConditions = new Condition[choices.size()];
+            Arrays.fill(choiceConditions, Condition.ALWAYS);
+        }
+
+        private void compileConditions() {
+            String owner = arcId + "/" + getId();
+            condition = Condition.compile(scene.getConditions(), owner);
+            for (int i = 0; i < choiceConditions.length; i++) {
+                choiceConditions[i] = Condition.compile(choices.get(i).getCondition(), owner + " choice " + i);
+            }
+        }
+
+        public String getArcId() {
+            return arcId;
+        }
+
+        public String getId() {
+            return scene.getId();
+        }
+
+        public Scene getScene() {
+            return scene;
+        }
+
+        public int getDialogueCount() {
+            return dialogues.length;
+        }
+
+        public Dialog getDialogue(int index) {
+            return index >= 0 && index < dialogues.length ? dialogues[index] : null;
+        }
+
+        public List<Choice> getChoices() {
+            return choices;
+        }
+
+        public boolean hasChoices() {
+            return !choices.isEmpty();
+        }
+
+        // Resolved next_scene of a choice, or null if it has none or the link is broken
+        public SceneNode getTarget(int choiceIndex) {
+            return targets[choiceIndex];
+        }
+
+        // Must hold for the scene to be entered
+        public Condition getCondition() {
+            return condition;
+        }
+
+        // Must hold for the choice to be offered
+        public Condition getChoiceCondition(int choiceIndex) {
+            return choiceConditions[choiceIndex];
+        }
+
+        public SceneNode getNotEnoughItemScene() {
+            return notEnoughItem;
+        }
+    }
+}
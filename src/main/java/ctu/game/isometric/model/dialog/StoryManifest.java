@@ -0,0 +1,42 @@
+package ctu.game.isometric.model.dialog;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// story/manifest.json: which file holds each arc, relative to the story directory
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StoryManifest {
+    private List<Entry> arcs = new ArrayList<>();
+
+    public List<Entry> getArcs() {
+        return arcs;
+    }
+
+    public void setArcs(List<Entry> arcs) {
+        this.arcs = arcs;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+        private String id;
+        private String file;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+    }
+}
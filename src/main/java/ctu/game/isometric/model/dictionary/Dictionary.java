@@ -1,109 +1,227 @@
 package ctu.game.isometric.model.dictionary;
 
-import java.text.Normalizer;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class Dictionary {
-    private Set<Word> learnedWords;
-    private Set<Word> newWords;
+    private static final int SEARCH_LIMIT = 500;
+
+    // Single index from case-folded term to entry; learned/new is a flag on the entry
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final DictionaryIndex searchIndex;
+    private int learnedCount = 0;
+
+    // Sorted views for paging, rebuilt only after the dictionary changes
+    private List<Word> learnedView;
+    private List<Word> newView;
+    private List<Word> allView;
+    private List<String> allKeysView;
 
     public Dictionary() {
-        this.learnedWords = new HashSet<>();
-        this.newWords = new HashSet<>();
+        this.searchIndex = new DictionaryIndex();
     }
 
     // Add a word to the dictionary as a new word
     public void addNewWord(Word word) {
-        newWords.add(word);
-    }
+        if (word == null || word.getTerm() == null) return;
 
+        String key = DictionaryIndex.normalize(word.getTerm());
+        Entry previous = entries.put(key, new Entry(key, word, false));
+        if (previous != null && previous.learned) {
+            learnedCount--;
+        }
+        searchIndex.index(word);
+        invalidateViews();
+    }
 
+    public void clearNewWords() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (!entry.learned) {
+                searchIndex.remove(entry.key);
+                iterator.remove();
+            }
+        }
+        invalidateViews();
+    }
 
     // Mark a word as learned (move from new to learned)
     public boolean markWordAsLearned(String term) {
-        Optional<Word> wordToMove = findWordInNewWords(term);
-        if (wordToMove.isPresent()) {
-            Word word = wordToMove.get();
-            newWords.remove(word);
-            learnedWords.add(word);
-            return true;
+        Entry entry = entries.get(DictionaryIndex.normalize(term));
+        if (entry == null || entry.learned) {
+            return false;
         }
-        return false;
+        entry.learned = true;
+        learnedCount++;
+        invalidateViews();
+        return true;
+    }
+
+    public boolean contains(String term) {
+        return term != null && entries.containsKey(DictionaryIndex.normalize(term));
     }
 
     // Find a word in either dictionary
     public Optional<Word> findWord(String term) {
-        Optional<Word> inLearned = findWordInLearnedWords(term);
-        return inLearned.isPresent() ? inLearned : findWordInNewWords(term);
+        Entry entry = term == null ? null : entries.get(DictionaryIndex.normalize(term));
+        return entry == null ? Optional.empty() : Optional.of(entry.word);
     }
 
     // Find a word in learned words
     public Optional<Word> findWordInLearnedWords(String term) {
-        return learnedWords.stream()
-                .filter(word -> word.getTerm().equalsIgnoreCase(term))
-                .findFirst();
+        Entry entry = term == null ? null : entries.get(DictionaryIndex.normalize(term));
+        return entry != null && entry.learned ? Optional.of(entry.word) : Optional.empty();
     }
 
     // Find a word in new words
     public Optional<Word> findWordInNewWords(String term) {
-        return newWords.stream()
-                .filter(word -> word.getTerm().equalsIgnoreCase(term))
-                .findFirst();
+        Entry entry = term == null ? null : entries.get(DictionaryIndex.normalize(term));
+        return entry != null && !entry.learned ? Optional.of(entry.word) : Optional.empty();
     }
 
-    // Search for words containing a substring
-    public Set<Word> searchWords(String query) {
+    // Ranked search by term prefix, close spelling or meaning
+    public List<Word> searchWords(String query) {
+        return resolveWords(searchKeys(query));
+    }
+
+    // Index-only part of searchWords; safe to call from a worker thread
+    public List<String> searchKeys(String query) {
         if (query == null || query.isEmpty()) {
-            return new HashSet<>();
+            return new ArrayList<>();
         }
+        return searchIndex.search(query, SEARCH_LIMIT);
+    }
 
-        String normalizedQuery = Normalizer.normalize(query.toLowerCase(), Normalizer.Form.NFC);
+    public List<Word> resolveWords(List<String> keys) {
+        List<Word> results = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                results.add(entry.word);
+            }
+        }
+        return results;
+    }
 
-        return getAllWords().stream()
-                .filter(word -> {
-                    String normalizedTerm = Normalizer.normalize(word.getTerm().toLowerCase(), Normalizer.Form.NFC);
-                    return normalizedTerm.contains(normalizedQuery);
-                })
-                .collect(Collectors.toSet());
+    // All words sorted by term (read-only, shared until the next change)
+    public List<Word> getAllWords() {
+        ensureViews();
+        return allView;
     }
 
-    // Get all words (combined from both sets)
-    public Set<Word> getAllWords() {
-        Set<Word> allWords = new HashSet<>(learnedWords);
-        allWords.addAll(newWords);
-        return allWords;
+    // Normalized terms, index-aligned with getAllWords()
+    public List<String> getAllKeys() {
+        ensureViews();
+        return allKeysView;
     }
 
     // Getters and setters
-    public Set<Word> getLearnedWords() {
-        return learnedWords;
+    public List<Word> getLearnedWords() {
+        ensureViews();
+        return learnedView;
     }
 
-    public void setLearnedWords(Set<Word> learnedWords) {
-        this.learnedWords = learnedWords;
+    public void setLearnedWords(Collection<Word> learnedWords) {
+        replaceWords(learnedWords, true);
     }
 
-    public Set<Word> getNewWords() {
-        return newWords;
+    public List<Word> getNewWords() {
+        ensureViews();
+        return newView;
     }
 
-    public void setNewWords(Set<Word> newWords) {
-        this.newWords = newWords;
+    public void setNewWords(Collection<Word> newWords) {
+        replaceWords(newWords, false);
+    }
+
+    // Replace every entry in one state with the given words
+    private void replaceWords(Collection<Word> words, boolean learned) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.learned == learned) {
+                searchIndex.remove(entry.key);
+                iterator.remove();
+            }
+        }
+
+        for (Word word : words) {
+            if (word == null || word.getTerm() == null) continue;
+            String key = DictionaryIndex.normalize(word.getTerm());
+            entries.put(key, new Entry(key, word, learned));
+            searchIndex.index(word);
+        }
+
+        learnedCount = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.learned) learnedCount++;
+        }
+        invalidateViews();
+    }
+
+    private void invalidateViews() {
+        learnedView = null;
+        newView = null;
+        allView = null;
+        allKeysView = null;
+    }
+
+    private void ensureViews() {
+        if (allView != null) return;
+
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparing(entry -> entry.key));
+
+        List<Word> all = new ArrayList<>(sorted.size());
+        List<String> keys = new ArrayList<>(sorted.size());
+        List<Word> learned = new ArrayList<>(learnedCount);
+        List<Word> fresh = new ArrayList<>(sorted.size() - learnedCount);
+        for (Entry entry : sorted) {
+            all.add(entry.word);
+            keys.add(entry.key);
+            (entry.learned ? learned : fresh).add(entry.word);
+        }
+
+        allView = Collections.unmodifiableList(all);
+        allKeysView = Collections.unmodifiableList(keys);
+        learnedView = Collections.unmodifiableList(learned);
+        newView = Collections.unmodifiableList(fresh);
     }
 
     // Get statistics
     public int getTotalWordCount() {
-        return learnedWords.size() + newWords.size();
+        return entries.size();
     }
 
     public int getLearnedWordCount() {
-        return learnedWords.size();
+        return learnedCount;
     }
 
     public int getNewWordCount() {
-        return newWords.size();
+        return entries.size() - learnedCount;
+    }
+
+    public void dispose() {
+        searchIndex.dispose();
+    }
+
+    private static class Entry {
+        final String key;
+        final Word word;
+        boolean learned;
+
+        Entry(String key, Word word, boolean learned) {
+            this.key = key;
+            this.word = word;
+            this.learned = learned;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,205 @@
+package ctu.game.isometric.model.dictionary;
+
+import com.badlogic.gdx.Gdx;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory Lucene index over dictionary words. Each word is one document keyed by
+ * its normalized term, with definitions, examples and synonyms in an analyzed gloss
+ * field. Updates are buffered in the writer and become visible on the next search.
+ */
+public class DictionaryIndex {
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_GLOSS = "gloss";
+
+    // Ranking weights: exact term > prefix > substring > typo-tolerant > meaning match
+    private static final float EXACT_BOOST = 8f;
+    private static final float PREFIX_BOOST = 4f;
+    private static final float SUBSTRING_BOOST = 3f;
+    private static final float FUZZY_BOOST = 2f;
+    private static final float GLOSS_BOOST = 1f;
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile boolean dirty = false;
+
+    public DictionaryIndex() {
+        try {
+            this.directory = new ByteBuffersDirectory();
+            this.analyzer = new EnglishAnalyzer();
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create dictionary index", e);
+        }
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text.trim().toLowerCase(), Normalizer.Form.NFC);
+    }
+
+    // Add or replace the document for this word
+    public void index(Word word) {
+        if (word == null || word.getTerm() == null) return;
+
+        String key = normalize(word.getTerm());
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_KEY, key, Field.Store.YES));
+        doc.add(new TextField(FIELD_GLOSS, buildGloss(word), Field.Store.NO));
+
+        try {
+            writer.updateDocument(new Term(FIELD_KEY, key), doc);
+            dirty = true;
+        } catch (IOException e) {
+            Gdx.app.error("DictionaryIndex", "Failed to index word: " + word.getTerm(), e);
+        }
+    }
+
+    public void remove(String term) {
+        try {
+            writer.deleteDocuments(new Term(FIELD_KEY, normalize(term)));
+            dirty = true;
+        } catch (IOException e) {
+            Gdx.app.error("DictionaryIndex", "Failed to remove word: " + term, e);
+        }
+    }
+
+    public void clear() {
+        try {
+            writer.deleteAll();
+            dirty = true;
+        } catch (IOException e) {
+            Gdx.app.error("DictionaryIndex", "Failed to clear index", e);
+        }
+    }
+
+    /**
+     * Ranked search over terms (exact, prefix, fuzzy) and glosses.
+     * Returns normalized term keys, best match first.
+     */
+    public List<String> search(String queryText, int limit) {
+        List<String> keys = new ArrayList<>();
+        if (queryText == null || queryText.isBlank()) return keys;
+
+        String key = normalize(queryText);
+        try {
+            refreshIfDirty();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(buildQuery(key), limit);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    keys.add(searcher.doc(scoreDoc.doc).get(FIELD_KEY));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            Gdx.app.error("DictionaryIndex", "Search failed for: " + queryText, e);
+        }
+        return keys;
+    }
+
+    private Query buildQuery(String key) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        Term term = new Term(FIELD_KEY, key);
+
+        builder.add(new BoostQuery(new TermQuery(term), EXACT_BOOST), BooleanClause.Occur.SHOULD);
+        builder.add(new BoostQuery(new PrefixQuery(term), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+        // Keeps the old "term contains the query" matches
+        Term substring = new Term(FIELD_KEY, "*" + escapeWildcards(key) + "*");
+        builder.add(new BoostQuery(new WildcardQuery(substring), SUBSTRING_BOOST), BooleanClause.Occur.SHOULD);
+        if (key.length() >= 3) {
+            int maxEdits = key.length() > 5 ? 2 : 1;
+            builder.add(new BoostQuery(new FuzzyQuery(term, maxEdits), FUZZY_BOOST), BooleanClause.Occur.SHOULD);
+        }
+
+        // Meaning search: any analyzed query token found in the gloss
+        try (TokenStream tokens = analyzer.tokenStream(FIELD_GLOSS, key)) {
+            CharTermAttribute attr = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                Query glossQuery = new TermQuery(new Term(FIELD_GLOSS, attr.toString()));
+                builder.add(new BoostQuery(glossQuery, GLOSS_BOOST), BooleanClause.Occur.SHOULD);
+            }
+            tokens.end();
+        }
+        return builder.build();
+    }
+
+    private static String escapeWildcards(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == WildcardQuery.WILDCARD_STRING || c == WildcardQuery.WILDCARD_CHAR || c == WildcardQuery.WILDCARD_ESCAPE) {
+                escaped.append(WildcardQuery.WILDCARD_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private void refreshIfDirty() throws IOException {
+        if (dirty) {
+            dirty = false;
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    private static String buildGloss(Word word) {
+        StringBuilder gloss = new StringBuilder();
+        for (WordDefinition definition : word.getDefinitions()) {
+            if (definition.getDefinition() != null) {
+                gloss.append(definition.getDefinition()).append('\n');
+            }
+            for (String example : definition.getExamples()) {
+                gloss.append(example).append('\n');
+            }
+            for (String synonym : definition.getSynonyms()) {
+                gloss.append(synonym.replace('_', ' ')).append('\n');
+            }
+        }
+        return gloss.toString();
+    }
+
+    public void dispose() {
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            Gdx.app.error("DictionaryIndex", "Failed to close index", e);
+        }
+    }
+}
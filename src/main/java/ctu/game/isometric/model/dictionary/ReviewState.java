@@ -0,0 +1,102 @@
+package ctu.game.isometric.model.dictionary;
+
+import java.util.Objects;
+
+// Spaced-repetition history for one learned word (SM-2 fields)
+public class ReviewState {
+    private float easiness = 2.5f;
+    private int repetitions;
+    private int interval; // in scheduler steps
+    private long dueAt;   // epoch millis
+    private int lapses;
+    private int reviews;
+    private long lastReviewed;
+
+    public ReviewState() {
+    }
+
+    public ReviewState(long dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public ReviewState(ReviewState other) {
+        this.easiness = other.easiness;
+        this.repetitions = other.repetitions;
+        this.interval = other.interval;
+        this.dueAt = other.dueAt;
+        this.lapses = other.lapses;
+        this.reviews = other.reviews;
+        this.lastReviewed = other.lastReviewed;
+    }
+
+    public float getEasiness() {
+        return easiness;
+    }
+
+    public void setEasiness(float easiness) {
+        this.easiness = easiness;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public void setRepetitions(int repetitions) {
+        this.repetitions = repetitions;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public void setInterval(int interval) {
+        this.interval = interval;
+    }
+
+    public long getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(long dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public int getLapses() {
+        return lapses;
+    }
+
+    public void setLapses(int lapses) {
+        this.lapses = lapses;
+    }
+
+    public int getReviews() {
+        return reviews;
+    }
+
+    public void setReviews(int reviews) {
+        this.reviews = reviews;
+    }
+
+    public long getLastReviewed() {
+        return lastReviewed;
+    }
+
+    public void setLastReviewed(long lastReviewed) {
+        this.lastReviewed = lastReviewed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReviewState)) return false;
+        ReviewState that = (ReviewState) o;
+        return Float.compare(easiness, that.easiness) == 0 && repetitions == that.repetitions
+                && interval == that.interval && dueAt == that.dueAt && lapses == that.lapses
+                && reviews == that.reviews && lastReviewed == that.lastReviewed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(easiness, repetitions, interval, dueAt, lapses, reviews, lastReviewed);
+    }
+}
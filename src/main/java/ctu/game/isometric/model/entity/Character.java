@@ -3,10 +3,15 @@ package ctu.game.isometric.model.entity;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import ctu.game.isometric.model.dictionary.ReviewState;
 import ctu.game.isometric.model.dictionary.Word;
+import ctu.game.isometric.model.game.FlagSet;
 import ctu.game.isometric.model.game.Items;
+import ctu.game.isometric.model.game.SymbolTable;
 import ctu.game.isometric.model.world.IsometricMap;
-import ctu.game.isometric.util.ItemLoader;
+import ctu.game.isometric.util.GameData;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -24,9 +29,11 @@ public class Character {
     private float maxHealth = 100; // Maximum health points
 
     private Map<String, Integer> items; // Inventory of items
-    private List<String> flags; // Flags for events
-    private List<String> quests; // List of quests
-    private Map<String, List<String>> status;  // Status effects (e.g., buffs, debuffs)
+    // Saved as name lists through the accessors below; ids are per run
+    @JsonIgnore private FlagSet flags = new FlagSet(SymbolTable.FLAGS); // Flags for events
+    @JsonIgnore private FlagSet quests = new FlagSet(SymbolTable.QUESTS); // List of quests
+    @JsonIgnore private FlagSet buffs = new FlagSet(SymbolTable.STATUS);  // Status effects
+    @JsonIgnore private FlagSet debuffs = new FlagSet(SymbolTable.STATUS);
     private float damage = 1; // Damage dealt by the character
 
     private IsometricMap gameMap;
@@ -35,6 +42,7 @@ public class Character {
     private static final float DIAGONAL_THRESHOLD = 0.3f; // For determining diagonal movement
 
     private float score; // Score for the character
+    private float playTime; // Seconds spent in game, shown in the load menu
 
     public static final String[] VALID_DIRECTIONS = {
             "up", "down", "left", "right", "left_down", "right_down", "left_up", "right_up"
@@ -44,14 +52,10 @@ public class Character {
 
     private Set<String> learnedWords;
     private Set<String> newlearneWords;
+    private Map<String, ReviewState> reviewStates; // Spaced-repetition state per learned word
 
     public Character() {
-        this.flags = new ArrayList<>();
-        this.quests = new ArrayList<>();
         this.items = new HashMap<>();
-        this.status = new HashMap<>();
-        this.status.put("buffs", new ArrayList<>());
-        this.status.put("debuffs", new ArrayList<>());
 
         this.newlearneWords = new HashSet<>();
         this.learnedWords = new HashSet<>();
@@ -65,12 +69,7 @@ public class Character {
         this.gridY = startY;
         this.targetX = startX;
         this.targetY = startY;
-        this.flags = new ArrayList<>();
-        this.quests = new ArrayList<>();
         this.items = new HashMap<>();
-        this.status = new HashMap<>();
-        this.status.put("buffs", new ArrayList<>());
-        this.status.put("debuffs", new ArrayList<>());
 
         this.learnedWords = new HashSet<>();
         this.newlearneWords = new HashSet<>();
@@ -188,7 +187,7 @@ public class Character {
     public Map<String, Integer> getBuffItems() {
         return items.entrySet().stream()
                 .filter(entry -> {
-                    Items item = ItemLoader.getItemByName(entry.getKey());
+                    Items item = GameData.get().getItem(entry.getKey());
                     return item != null && item.getItemEffect().equals("buff") || item.getItemEffect().equals("heal");
                 })
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -415,14 +414,24 @@ public class Character {
         this.gameMap = gameMap;
     }
 
-    public List<String> getFlags() {
+    public FlagSet getFlags() {
         return flags;
     }
 
-    public void setFlags(List<String> flags) {
+    public void setFlags(FlagSet flags) {
         this.flags = flags;
     }
 
+    @JsonProperty("flags")
+    private List<String> getFlagNames() {
+        return flags.names();
+    }
+
+    @JsonProperty("flags")
+    private void setFlagNames(List<String> names) {
+        flags = FlagSet.of(SymbolTable.FLAGS, names);
+    }
+
 
     public Gender getGender() {
         return gender;
@@ -465,20 +474,53 @@ public class Character {
         this.targetY = targetY;
     }
 
-    public List<String> getQuests() {
+    public FlagSet getQuests() {
         return quests;
     }
 
-    public void setQuests(List<String> quests) {
+    public void setQuests(FlagSet quests) {
         this.quests = quests;
     }
 
-    public Map<String, List<String>> getStatus() {
+    @JsonProperty("quests")
+    private List<String> getQuestNames() {
+        return quests.names();
+    }
+
+    @JsonProperty("quests")
+    private void setQuestNames(List<String> names) {
+        quests = FlagSet.of(SymbolTable.QUESTS, names);
+    }
+
+    public FlagSet getBuffs() {
+        return buffs;
+    }
+
+    public void setBuffs(FlagSet buffs) {
+        this.buffs = buffs;
+    }
+
+    public FlagSet getDebuffs() {
+        return debuffs;
+    }
+
+    public void setDebuffs(FlagSet debuffs) {
+        this.debuffs = debuffs;
+    }
+
+    // Saved in the original {"buffs": [...], "debuffs": [...]} shape
+    @JsonProperty("status")
+    private Map<String, List<String>> getStatusNames() {
+        Map<String, List<String>> status = new HashMap<>();
+        status.put("buffs", buffs.names());
+        status.put("debuffs", debuffs.names());
         return status;
     }
 
-    public void setStatus(Map<String, List<String>> status) {
-        this.status = status;
+    @JsonProperty("status")
+    private void setStatusNames(Map<String, List<String>> status) {
+        buffs = FlagSet.of(SymbolTable.STATUS, status == null ? null : status.get("buffs"));
+        debuffs = FlagSet.of(SymbolTable.STATUS, status == null ? null : status.get("debuffs"));
     }
 
     public float getDamage() {
@@ -524,4 +566,27 @@ public class Character {
     public void setNewlearneWords(Set<String> newlearneWords) {
         this.newlearneWords = newlearneWords;
     }
-}
\ No newline at end of file
+
+    public float getPlayTime() {
+        return playTime;
+    }
+
+    public void setPlayTime(float playTime) {
+        this.playTime = playTime;
+    }
+
+    public void addPlayTime(float delta) {
+        this.playTime += delta;
+    }
+
+    public Map<String, ReviewState> getReviewStates() {
+        if (reviewStates == null) {
+            reviewStates = new HashMap<>();
+        }
+        return reviewStates;
+    }
+
+    public void setReviewStates(Map<String, ReviewState> reviewStates) {
+        this.reviewStates = reviewStates;
+    }
+}
@@ -1,25 +1,20 @@
 package ctu.game.isometric.model.entity;
 
+// One enemy in the world: a shared EnemyType plus the little state that is its own
 public class Enemy {
-    private int enemyID;
-    private String enemyName;
-    private String enemyDescription;
-    private String texturePath;
-    private float health;
-    private int attackPower;
-    private int rewardID; // ID of the reward given upon defeat
+    private final EnemyType type;
     private int x,y;
+
     public Enemy() {
+        this(EnemyType.UNKNOWN);
+    }
+
+    public Enemy(EnemyType type) {
+        this.type = type;
     }
 
-    public Enemy(int enemyID, String enemyDescription, String enemyName, String texturePath, int health, int attackPower, int rewardID) {
-        this.enemyID = enemyID;
-        this.enemyDescription = enemyDescription;
-        this.enemyName = enemyName;
-        this.texturePath = texturePath;
-        this.health = health;
-        this.attackPower = attackPower;
-        this.rewardID = rewardID;
+    public EnemyType getType() {
+        return type;
     }
 
     public int getX() {
@@ -39,58 +34,30 @@ public class Enemy {
     }
 
     public int getEnemyID() {
-        return enemyID;
-    }
-
-    public void setEnemyID(int enemyID) {
-        this.enemyID = enemyID;
+        return type.getEnemyID();
     }
 
     public String getEnemyName() {
-        return enemyName;
-    }
-
-    public void setEnemyName(String enemyName) {
-        this.enemyName = enemyName;
+        return type.getEnemyName();
     }
 
     public String getEnemyDescription() {
-        return enemyDescription;
-    }
-
-    public void setEnemyDescription(String enemyDescription) {
-        this.enemyDescription = enemyDescription;
+        return type.getEnemyDescription();
     }
 
     public String getTexturePath() {
-        return texturePath;
-    }
-
-    public void setTexturePath(String texturePath) {
-        this.texturePath = texturePath;
+        return type.getTexturePath();
     }
 
     public float getHealth() {
-        return health;
-    }
-
-    public void setHealth(float health) {
-        this.health = health;
+        return type.getHealth();
     }
 
     public int getAttackPower() {
-        return attackPower;
-    }
-
-    public void setAttackPower(int attackPower) {
-        this.attackPower = attackPower;
+        return type.getAttackPower();
     }
 
     public int getRewardID() {
-        return rewardID;
-    }
-
-    public void setRewardID(int rewardID) {
-        this.rewardID = rewardID;
+        return type.getRewardID();
     }
 }
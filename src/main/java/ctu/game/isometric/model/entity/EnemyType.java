@@ -0,0 +1,54 @@
+package ctu.game.isometric.model.entity;
+
+// Shared, immutable definition of an enemy from game/enemies.json; Enemy adds the per-spawn state
+public final class EnemyType {
+    public static final EnemyType UNKNOWN = new EnemyType(0, "Unknown Enemy", "A mysterious creature.",
+            "enemy/default.png", 50, 10, 0);
+
+    private final int enemyID;
+    private final String enemyName;
+    private final String enemyDescription;
+    private final String texturePath;
+    private final float health;
+    private final int attackPower;
+    private final int rewardID; // ID of the reward given upon defeat
+
+    public EnemyType(int enemyID, String enemyName, String enemyDescription, String texturePath,
+                     float health, int attackPower, int rewardID) {
+        this.enemyID = enemyID;
+        this.enemyName = enemyName;
+        this.enemyDescription = enemyDescription;
+        this.texturePath = texturePath;
+        this.health = health;
+        this.attackPower = attackPower;
+        this.rewardID = rewardID;
+    }
+
+    public int getEnemyID() {
+        return enemyID;
+    }
+
+    public String getEnemyName() {
+        return enemyName;
+    }
+
+    public String getEnemyDescription() {
+        return enemyDescription;
+    }
+
+    public String getTexturePath() {
+        return texturePath;
+    }
+
+    public float getHealth() {
+        return health;
+    }
+
+    public int getAttackPower() {
+        return attackPower;
+    }
+
+    public int getRewardID() {
+        return rewardID;
+    }
+}
@@ -0,0 +1,148 @@
+package ctu.game.isometric.model.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A set of names from one SymbolTable, stored as a bitset over the interned ids. Membership
+ * is a bit test and copy() is one array clone. Ids are only meaningful within a run, so
+ * saves store names() and rebuild the set from them.
+ */
+public final class FlagSet {
+    private final SymbolTable table;
+    private long[] words;
+    private int count;
+
+    public FlagSet(SymbolTable table) {
+        this(table, new long[1], 0);
+    }
+
+    private FlagSet(SymbolTable table, long[] words, int count) {
+        this.table = table;
+        this.words = words;
+        this.count = count;
+    }
+
+    public static FlagSet of(SymbolTable table, Collection<String> names) {
+        FlagSet set = new FlagSet(table);
+        if (names != null) set.addAll(names);
+        return set;
+    }
+
+    public boolean has(int id) {
+        int word = id >>> 6;
+        return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    public boolean has(String name) {
+        return name != null && has(table.find(name));
+    }
+
+    public boolean add(String name) {
+        return add(table.intern(name));
+    }
+
+    public boolean add(int id) {
+        int word = id >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        long mask = 1L << id;
+        if ((words[word] & mask) != 0) return false;
+        words[word] |= mask;
+        count++;
+        return true;
+    }
+
+    public void addAll(Collection<String> names) {
+        for (String name : names) {
+            add(name);
+        }
+    }
+
+    public boolean remove(String name) {
+        int id = table.find(name);
+        if (!has(id)) return false;
+        words[id >>> 6] &= ~(1L << id);
+        count--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0);
+        count = 0;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean containsAll(FlagSet other) {
+        for (int i = 0; i < other.words.length; i++) {
+            long mine = i < words.length ? words[i] : 0;
+            if ((other.words[i] & ~mine) != 0) return false;
+        }
+        return true;
+    }
+
+    // Adds to out the names in this set that are not in before
+    public void collectAddedSince(FlagSet before, Collection<String> out) {
+        for (int i = 0; i < words.length; i++) {
+            long added = words[i] & ~(i < before.words.length ? before.words[i] : 0);
+            while (added != 0) {
+                int bit = Long.numberOfTrailingZeros(added);
+                out.add(table.nameOf((i << 6) + bit));
+                added &= added - 1;
+            }
+        }
+    }
+
+    // Names in id order
+    public List<String> names() {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < words.length; i++) {
+            long bits = words[i];
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                names.add(table.nameOf((i << 6) + bit));
+                bits &= bits - 1;
+            }
+        }
+        return names;
+    }
+
+    public FlagSet copy() {
+        return new FlagSet(table, words.clone(), count);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FlagSet)) return false;
+        FlagSet other = (FlagSet) o;
+        return table == other.table && count == other.count && containsAll(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Trailing empty words don't count, matching equals()
+        int hash = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (words[i] != 0) {
+                hash = 31 * hash + (i ^ Long.hashCode(words[i]));
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return names().toString();
+    }
+}
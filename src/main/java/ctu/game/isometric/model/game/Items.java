@@ -1,20 +1,18 @@
 package ctu.game.isometric.model.game;
 
-public class Items {
-    private int itemID;
-    private String itemName;
-    private String itemDescription;
-    private String texturePath; // Path to the item's texture
-    private String itemEffect; // Effect of the item when used (e.g., heal, buff)
-    private float value;
-    public int getItemID() {
-        return itemID;
-    }
-
-    public Items() {
-    }
-
-    public Items(int itemID, String itemName, String itemDescription, String texturePath, String itemEffect, int value) {
+// Immutable item definition from game/items.json, shared by every holder of the item
+public final class Items {
+    public static final Items UNKNOWN = new Items(0, "Unknown Item", "A mysterious item.",
+            "items/default.png", "N/A", 0);
+
+    private final int itemID;
+    private final String itemName;
+    private final String itemDescription;
+    private final String texturePath; // Path to the item's texture
+    private final String itemEffect; // Effect of the item when used (e.g., heal, buff)
+    private final float value;
+
+    public Items(int itemID, String itemName, String itemDescription, String texturePath, String itemEffect, float value) {
         this.itemID = itemID;
         this.itemName = itemName;
         this.itemDescription = itemDescription;
@@ -23,53 +21,27 @@ public class Items {
         this.value = value;
     }
 
-    public float getValue() {
-        return value;
-    }
-
-    public void setValue(float value) {
-        this.value = value;
+    public int getItemID() {
+        return itemID;
     }
 
-    public void setValue(int value) {
-        this.value = value;
+    public float getValue() {
+        return value;
     }
 
     public String getItemEffect() {
         return itemEffect;
     }
 
-    public void setItemEffect(String itemEffect) {
-        this.itemEffect = itemEffect;
-    }
-
-    public void setItemID(int itemID) {
-        this.itemID = itemID;
-    }
-
     public String getItemName() {
         return itemName;
     }
 
-    public void setItemName(String itemName) {
-        this.itemName = itemName;
-    }
-
     public String getItemDescription() {
         return itemDescription;
     }
 
-    public void setItemDescription(String itemDescription) {
-        this.itemDescription = itemDescription;
-    }
-
     public String getTexturePath() {
         return texturePath;
     }
-
-    public void setTexturePath(String texturePath) {
-        this.texturePath = texturePath;
-    }
-
-
 }
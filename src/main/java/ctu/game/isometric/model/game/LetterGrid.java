@@ -1,6 +1,7 @@
 package ctu.game.isometric.model.game;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -15,10 +16,15 @@ public class LetterGrid {
     private Random random;
 
     public LetterGrid() {
+        this(new Random());
+    }
+
+    // Grids drawn from the given generator, e.g. a seeded one for repeatable simulations
+    public LetterGrid(Random random) {
         grid = new char[GRID_SIZE][GRID_SIZE];
         selectedCells = new boolean[GRID_SIZE][GRID_SIZE];
         currentSelection = new ArrayList<>();
-        random = new Random();
+        this.random = random;
         regenerateGrid();
     }
 
@@ -32,6 +38,27 @@ public class LetterGrid {
         currentSelection.clear();
     }
 
+    // Random grid that also contains every letter of seedWord, in scattered cells.
+    // Returns false (grid untouched) if the word is too long or not all letters.
+    public boolean regenerateGrid(String seedWord) {
+        String letters = seedWord.toUpperCase();
+        if (letters.length() > GRID_SIZE * GRID_SIZE || !letters.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+            return false;
+        }
+
+        regenerateGrid();
+        List<Integer> cells = new ArrayList<>();
+        for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
+            cells.add(i);
+        }
+        Collections.shuffle(cells, random);
+        for (int i = 0; i < letters.length(); i++) {
+            int cell = cells.get(i);
+            grid[cell / GRID_SIZE][cell % GRID_SIZE] = letters.charAt(i);
+        }
+        return true;
+    }
+
     private char getRandomLetter() {
         return LETTERS.charAt(random.nextInt(LETTERS.length()));
     }
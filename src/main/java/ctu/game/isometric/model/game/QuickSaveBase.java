@@ -0,0 +1,33 @@
+package ctu.game.isometric.model.game;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// Full snapshot that quick-save deltas are taken against
+public class QuickSaveBase {
+    private long id;
+    private GameSave gameSave;
+    private Set<String> learnedWords;
+
+    public QuickSaveBase() {
+        learnedWords = new HashSet<>();
+    }
+
+    public QuickSaveBase(long id, GameSave gameSave, Set<String> learnedWords) {
+        this.id = id;
+        this.gameSave = gameSave;
+        this.learnedWords = learnedWords;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public GameSave getGameSave() {
+        return gameSave;
+    }
+
+    public Set<String> getLearnedWords() {
+        return learnedWords;
+    }
+}
@@ -1,13 +1,11 @@
 package ctu.game.isometric.model.game;
 
-public class Reward {
-    private int rewardID;
-    private Items itemID; // Name of the item if the reward is an item
-    private int amount; // Amount of the reward
-    private String description; // Description of the reward
-
-    public Reward() {
-    }
+// Immutable reward definition from game/reward.json, with its item already resolved
+public final class Reward {
+    private final int rewardID;
+    private final Items itemID; // The item given
+    private final int amount; // Amount of the reward
+    private final String description; // Description of the reward
 
     public Reward(int rewardID, Items itemID, int amount, String description) {
         this.rewardID = rewardID;
@@ -20,31 +18,15 @@ public class Reward {
         return rewardID;
     }
 
-    public void setRewardID(int rewardID) {
-        this.rewardID = rewardID;
-    }
-
     public Items getItemID() {
         return itemID;
     }
 
-    public void setItemID(Items itemID) {
-        this.itemID = itemID;
-    }
-
     public int getAmount() {
         return amount;
     }
 
-    public void setAmount(int amount) {
-        this.amount = amount;
-    }
-
     public String getDescription() {
         return description;
     }
-
-    public void setDescription(String description) {
-        this.description = description;
-    }
 }
@@ -0,0 +1,148 @@
+package ctu.game.isometric.model.game;
+
+import ctu.game.isometric.model.dictionary.ReviewState;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes since a QuickSaveBase. Scalar character fields are null when unchanged;
+ * collections hold only what was added, and itemChanges holds new counts (0 = removed).
+ */
+public class SaveDelta {
+    private long baseId;
+    private long sequence;
+    private Date saveDate;
+
+    private Float health;
+    private Float damage;
+    private Float score;
+    private Float playTime;
+    private Float gridX;
+    private Float gridY;
+    private String direction;
+
+    private List<String> addedFlags = new ArrayList<>();
+    private List<String> addedQuests = new ArrayList<>();
+    private Map<String, Integer> itemChanges = new HashMap<>();
+    private List<String> completedEvents = new ArrayList<>();
+    private List<Integer> defeatedEnemies = new ArrayList<>();
+    private Set<String> learnedWords = new HashSet<>();
+    private Map<String, ReviewState> reviewChanges = new HashMap<>();
+
+    public SaveDelta() {
+    }
+
+    public SaveDelta(long baseId, long sequence) {
+        this.baseId = baseId;
+        this.sequence = sequence;
+        this.saveDate = new Date();
+    }
+
+    // Number of recorded changes, used to decide when to take a new base
+    public int size() {
+        return addedFlags.size() + addedQuests.size() + itemChanges.size()
+                + completedEvents.size() + defeatedEnemies.size() + learnedWords.size() + reviewChanges.size();
+    }
+
+    public long getBaseId() {
+        return baseId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Date getSaveDate() {
+        return saveDate;
+    }
+
+    public Float getHealth() {
+        return health;
+    }
+
+    public void setHealth(Float health) {
+        this.health = health;
+    }
+
+    public Float getDamage() {
+        return damage;
+    }
+
+    public void setDamage(Float damage) {
+        this.damage = damage;
+    }
+
+    public Float getScore() {
+        return score;
+    }
+
+    public void setScore(Float score) {
+        this.score = score;
+    }
+
+    public Float getPlayTime() {
+        return playTime;
+    }
+
+    public void setPlayTime(Float playTime) {
+        this.playTime = playTime;
+    }
+
+    public Float getGridX() {
+        return gridX;
+    }
+
+    public void setGridX(Float gridX) {
+        this.gridX = gridX;
+    }
+
+    public Float getGridY() {
+        return gridY;
+    }
+
+    public void setGridY(Float gridY) {
+        this.gridY = gridY;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+
+    public List<String> getAddedFlags() {
+        return addedFlags;
+    }
+
+    public List<String> getAddedQuests() {
+        return addedQuests;
+    }
+
+    public Map<String, Integer> getItemChanges() {
+        return itemChanges;
+    }
+
+    public List<String> getCompletedEvents() {
+        return completedEvents;
+    }
+
+    public List<Integer> getDefeatedEnemies() {
+        return defeatedEnemies;
+    }
+
+    public Set<String> getLearnedWords() {
+        return learnedWords;
+    }
+
+    public Map<String, ReviewState> getReviewChanges() {
+        return reviewChanges;
+    }
+}
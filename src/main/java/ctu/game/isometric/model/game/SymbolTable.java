@@ -0,0 +1,50 @@
+package ctu.game.isometric.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Interns names to small dense ids so hot checks compare ints instead of strings
+public final class SymbolTable {
+    public static final SymbolTable FLAGS = new SymbolTable();
+    public static final SymbolTable QUESTS = new SymbolTable();
+    public static final SymbolTable STATUS = new SymbolTable();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    private SymbolTable() {
+    }
+
+    // Id for name, assigning the next one if it is new; safe from any thread
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) return id;
+        synchronized (names) {
+            id = ids.get(name);
+            if (id == null) {
+                id = names.size();
+                names.add(name);
+                ids.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    // Id for name, or -1 if it was never interned
+    public int find(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public String nameOf(int id) {
+        synchronized (names) {
+            return names.get(id);
+        }
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,55 @@
+package ctu.game.isometric.model.quiz;
+
+import java.util.Collections;
+import java.util.List;
+
+// One ready-to-show quiz item; the answer is always the learned word, upper case
+public final class Quiz {
+    private final QuizType type;
+    private final String question;
+    private final String answer;
+    private final List<String> choices;
+    private final int difficulty;
+    private final int points;
+
+    public Quiz(QuizType type, String question, String answer, int difficulty, int points) {
+        this(type, question, answer, Collections.emptyList(), difficulty, points);
+    }
+
+    public Quiz(QuizType type, String question, String answer, List<String> choices, int difficulty, int points) {
+        this.type = type;
+        this.question = question;
+        this.answer = answer;
+        this.choices = choices;
+        this.difficulty = difficulty;
+        this.points = points;
+    }
+
+    public Quiz withChoices(List<String> choices) {
+        return new Quiz(type, question, answer, choices, difficulty, points);
+    }
+
+    public QuizType getType() {
+        return type;
+    }
+
+    public String getQuestion() {
+        return question;
+    }
+
+    public String getAnswer() {
+        return answer;
+    }
+
+    public List<String> getChoices() {
+        return choices;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+}
@@ -0,0 +1,44 @@
+package ctu.game.isometric.model.quiz;
+
+public final class QuizResult {
+    private final boolean correct;
+    private final int score;
+    private final float timeTaken;
+    private final boolean timeExpired;
+    private final String correctAnswer;
+    private final String userAnswer;
+
+    public QuizResult(boolean correct, int score, float timeTaken, boolean timeExpired,
+                      String correctAnswer, String userAnswer) {
+        this.correct = correct;
+        this.score = score;
+        this.timeTaken = timeTaken;
+        this.timeExpired = timeExpired;
+        this.correctAnswer = correctAnswer;
+        this.userAnswer = userAnswer;
+    }
+
+    public boolean isCorrect() {
+        return correct;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public float getTimeTaken() {
+        return timeTaken;
+    }
+
+    public boolean isTimeExpired() {
+        return timeExpired;
+    }
+
+    public String getCorrectAnswer() {
+        return correctAnswer;
+    }
+
+    public String getUserAnswer() {
+        return userAnswer;
+    }
+}
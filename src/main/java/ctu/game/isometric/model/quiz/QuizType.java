@@ -0,0 +1,18 @@
+package ctu.game.isometric.model.quiz;
+
+public enum QuizType {
+    FILL_IN_THE_BLANK("FILL THE BLANK"),
+    DEFINITION_MATCH("MATCH THE DEFINITION"),
+    SYNONYM_PICK("PICK THE WORD"),
+    SPELLING("SPELL THE WORD");
+
+    private final String title;
+
+    QuizType(String title) {
+        this.title = title;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
@@ -1,17 +1,23 @@
 package ctu.game.isometric.model.world;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import ctu.game.isometric.model.entity.Enemy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class IsometricMap {
@@ -29,6 +35,10 @@ public class IsometricMap {
     private static final int CHUNK_SIZE = 16;
     private boolean chunkingEnabled = false;
 
+    // Weather regions, indexed by every chunk they touch so lookups scale with the view
+    private final List<WeatherRegion> weatherRegions = new ArrayList<>();
+    private final Map<Long, List<WeatherRegion>> weatherByChunk = new HashMap<>();
+
     public IsometricMap(String tmxFilePath) {
         // Load the TMX file
         tiledMap = new TmxMapLoader().load(tmxFilePath);
@@ -46,6 +56,7 @@ public class IsometricMap {
         // Initialize data structures
         initializeMapData();
         initializeWalkableCache();
+        loadWeatherRegions();
 
         // Auto-enable chunking for large maps
         if (mapWidth * mapHeight > 10000) {
@@ -102,9 +113,59 @@ public class IsometricMap {
     private MapChunk getOrCreateChunk(int x, int y) {
         int chunkX = x / CHUNK_SIZE;
         int chunkY = y / CHUNK_SIZE;
-        long key = ((long)chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+        return chunks.computeIfAbsent(chunkKey(chunkX, chunkY), k -> new MapChunk(this, chunkX, chunkY));
+    }
+
+    private static long chunkKey(int chunkX, int chunkY) {
+        return ((long)chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    // Rectangles on the "weather" object layer, placed on the grid the same way as events
+    private void loadWeatherRegions() {
+        MapLayer layer = tiledMap.getLayers().get("weather");
+        if (layer == null) return;
+
+        for (MapObject object : layer.getObjects()) {
+            if (!(object instanceof RectangleMapObject)) continue;
+            MapProperties props = object.getProperties();
+            String effect = props.get("weather", String.class);
+            if (effect == null || effect.isEmpty()) continue;
+
+            Rectangle rect = ((RectangleMapObject) object).getRectangle();
+            int minX = (int) (rect.x / tileWidth) + 2;
+            int minY = (int) (rect.y / tileHeight) - 2;
+            int maxX = minX + Math.max(1, (int) Math.ceil(rect.width / tileWidth));
+            int maxY = minY + Math.max(1, (int) Math.ceil(rect.height / tileHeight));
+            Object intensity = props.get("intensity");
+            float value = intensity instanceof Number ? ((Number) intensity).floatValue()
+                    : intensity != null ? Float.parseFloat(intensity.toString()) : 1f;
+            addWeatherRegion(new WeatherRegion(effect, value, minX, minY, maxX, maxY));
+        }
+        Gdx.app.log("IsometricMap", "Loaded " + weatherRegions.size() + " weather regions");
+    }
+
+    private void addWeatherRegion(WeatherRegion region) {
+        weatherRegions.add(region);
+        int lastChunkX = (Math.min(region.getMaxX(), mapWidth) - 1) / CHUNK_SIZE;
+        int lastChunkY = (Math.min(region.getMaxY(), mapHeight) - 1) / CHUNK_SIZE;
+        for (int cy = Math.max(0, region.getMinY()) / CHUNK_SIZE; cy <= lastChunkY; cy++) {
+            for (int cx = Math.max(0, region.getMinX()) / CHUNK_SIZE; cx <= lastChunkX; cx++) {
+                weatherByChunk.computeIfAbsent(chunkKey(cx, cy), k -> new ArrayList<>()).add(region);
+            }
+        }
+    }
+
+    // Weather regions touching the chunk, or an empty list
+    public List<WeatherRegion> getWeatherRegions(int chunkX, int chunkY) {
+        return weatherByChunk.getOrDefault(chunkKey(chunkX, chunkY), Collections.emptyList());
+    }
+
+    public List<WeatherRegion> getWeatherRegions() {
+        return weatherRegions;
+    }
 
-        return chunks.computeIfAbsent(key, k -> new MapChunk(this, chunkX, chunkY));
+    public int getChunkSize() {
+        return CHUNK_SIZE;
     }
 
     // Initialize walkable cache
@@ -1,6 +1,7 @@
 package ctu.game.isometric.model.world;
 
 import com.badlogic.gdx.maps.MapProperties;
+import ctu.game.isometric.model.condition.Condition;
 
 public class MapEvent {
     private String id;          // Unique identifier for the event
@@ -10,6 +11,7 @@ public class MapEvent {
     private MapProperties properties;
     private boolean completed;  // Whether this event has been completed
     private boolean isOneTime; // Whether this event is a one-time event
+    private Condition condition = Condition.ALWAYS; // Must hold for the event to trigger
     public MapEvent(String id, String eventType, int gridX, int gridY, MapProperties properties,boolean isOneTime) {
         this.id = id;
         this.eventType = eventType;
@@ -31,4 +33,6 @@ public class MapEvent {
     public void setCompleted(boolean completed) { this.completed = completed; }
     public boolean isOneTime() { return isOneTime; }
     public void setOneTime(boolean oneTime) { this.isOneTime = oneTime; }
+    public Condition getCondition() { return condition; }
+    public void setCondition(Condition condition) { this.condition = condition; }
 }
\ No newline at end of file
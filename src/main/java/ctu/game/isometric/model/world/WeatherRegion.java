@@ -0,0 +1,35 @@
+package ctu.game.isometric.model.world;
+
+/**
+ * An area of the map with its own weather or ambience, from a rectangle on the TMX "weather"
+ * object layer. The "weather" property names the effect (rain, fog, fireflies) and the
+ * optional "intensity" property scales it. Bounds are in tiles, max exclusive.
+ */
+public class WeatherRegion {
+    private final String effect;
+    private final float intensity;
+    private final int minX, minY, maxX, maxY;
+
+    public WeatherRegion(String effect, float intensity, int minX, int minY, int maxX, int maxY) {
+        this.effect = effect;
+        this.intensity = intensity;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    // Number of tiles this region shares with the given tile range (max exclusive)
+    public int overlap(int x0, int y0, int x1, int y1) {
+        int width = Math.min(maxX, x1) - Math.max(minX, x0);
+        int height = Math.min(maxY, y1) - Math.max(minY, y0);
+        return width > 0 && height > 0 ? width * height : 0;
+    }
+
+    public String getEffect() { return effect; }
+    public float getIntensity() { return intensity; }
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+}
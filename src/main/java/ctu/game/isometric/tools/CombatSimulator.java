@@ -0,0 +1,302 @@
+package ctu.game.isometric.tools;
+
+import com.badlogic.gdx.Gdx;
+import ctu.game.isometric.model.combat.CombatEngine;
+import ctu.game.isometric.model.combat.CombatEvent;
+import ctu.game.isometric.model.combat.CombatRules;
+import ctu.game.isometric.model.combat.CombatState;
+import ctu.game.isometric.model.entity.Character;
+import ctu.game.isometric.model.entity.Enemy;
+import ctu.game.isometric.model.entity.EnemyType;
+import ctu.game.isometric.model.game.Items;
+import ctu.game.isometric.model.game.LetterGrid;
+import ctu.game.isometric.model.game.Reward;
+import ctu.game.isometric.util.GameData;
+import ctu.game.isometric.util.WordNetValidator;
+import ctu.game.isometric.util.WordScoreTable;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Balancing tool: plays every enemy in game/enemies.json against AI players of several skill
+ * levels and reports win rate, player turns to kill, word scores and damage dealt and taken per enemy. Battles run on
+ * the real CombatEngine and game/combat.json, with words and scores from the WordNet score
+ * table, spread over all cores. Each batch has its own seed, so a run is repeatable whatever
+ * the thread count.
+ *
+ * Run from the project root (the WordNet dictionary is read from src/main/resources/game/dict):
+ *   java -cp isometric.jar ctu.game.isometric.tools.CombatSimulator --battles 5000 --skills 0.1,0.5,1
+ *
+ * Options: --battles N per enemy and skill, --skills list, --seed N, --threads N,
+ * --items N of every heal and buff item, --health N and --damage N for the player.
+ */
+public class CombatSimulator {
+    private static final int BATCH_SIZE = 250;
+    private static final int MAX_PLAYER_TURNS = 200;
+    private static final float HEAL_BELOW = 0.35f; // use a heal item under this share of max health
+
+    private int battles = 2000;
+    private float[] skills = {0.05f, 0.25f, 0.5f, 1f};
+    private long seed = 1;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int itemsEach = 0;
+    private float playerHealth = 100;
+    private float playerDamage = 1;
+
+    private CombatRules rules;
+    private SimulatedPlayer.WordIndex words;
+    private List<Items> combatItems;
+
+    public static void main(String[] args) throws Exception {
+        ConsoleApplication.install();
+        CombatSimulator simulator = new CombatSimulator();
+        simulator.parseArgs(args);
+        simulator.load();
+        simulator.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--battles": battles = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--threads": threads = Math.max(1, Integer.parseInt(value)); break;
+                case "--items": itemsEach = Integer.parseInt(value); break;
+                case "--health": playerHealth = Float.parseFloat(value); break;
+                case "--damage": playerDamage = Float.parseFloat(value); break;
+                case "--skills":
+                    String[] parts = value.split(",");
+                    skills = new float[parts.length];
+                    for (int s = 0; s < parts.length; s++) {
+                        skills[s] = Float.parseFloat(parts[s].trim());
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+    }
+
+    private void load() throws Exception {
+        try (InputStream input = Gdx.files.internal("game/combat.json").read()) {
+            rules = CombatRules.read(input);
+        }
+
+        combatItems = new ArrayList<>();
+        for (Items item : GameData.get().getItems()) {
+            if ("heal".equals(item.getItemEffect()) || "buff".equals(item.getItemEffect())) {
+                combatItems.add(item);
+            }
+        }
+
+        new WordNetValidator().loadDictionary();
+        WordScoreTable table = WordNetValidator.awaitScoreTable();
+        words = SimulatedPlayer.WordIndex.fromScoreTable(table);
+        Gdx.app.log("CombatSimulator", words.size() + " playable words, " + combatItems.size() + " combat items");
+    }
+
+    private void run() throws Exception {
+        List<Enemy> enemies = new ArrayList<>();
+        for (EnemyType type : GameData.get().getEnemyTypes()) {
+            enemies.add(new Enemy(type));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            // Submit everything first so all cores stay busy, then collect in report order
+            List<List<List<Future<BattleStats>>>> futures = new ArrayList<>();
+            long batchSeed = seed;
+            for (Enemy enemy : enemies) {
+                List<List<Future<BattleStats>>> perSkill = new ArrayList<>();
+                for (float skill : skills) {
+                    List<Future<BattleStats>> batches = new ArrayList<>();
+                    for (int done = 0; done < battles; done += BATCH_SIZE) {
+                        int count = Math.min(BATCH_SIZE, battles - done);
+                        long taskSeed = batchSeed++ * 0x9E3779B97F4A7C15L;
+                        batches.add(pool.submit(() -> simulate(enemy, skill, count, taskSeed)));
+                    }
+                    perSkill.add(batches);
+                }
+                futures.add(perSkill);
+            }
+
+            for (int e = 0; e < enemies.size(); e++) {
+                printEnemy(enemies.get(e));
+                for (int s = 0; s < skills.length; s++) {
+                    BattleStats total = new BattleStats();
+                    for (Future<BattleStats> batch : futures.get(e).get(s)) {
+                        total.merge(batch.get());
+                    }
+                    printRow(skills[s], total);
+                }
+                System.out.println();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = (long) enemies.size() * skills.length * battles;
+        System.out.printf(Locale.ROOT, "%d battles in %.2f s (%.0f/s, %d threads)%n", total, seconds, total / seconds, threads);
+    }
+
+    private BattleStats simulate(Enemy template, float skill, int count, long taskSeed) {
+        Random random = new Random(taskSeed);
+        SimulatedPlayer player = new SimulatedPlayer(words, skill, random);
+        LetterGrid grid = new LetterGrid(random);
+        BattleStats stats = new BattleStats();
+        float step = rules.getResolveDelay() > 0 ? rules.getResolveDelay() : Math.max(0.1f, rules.getEnemyTurnDelay());
+
+        for (int b = 0; b < count; b++) {
+            Character character = new Character();
+            character.setMaxHealth(playerHealth);
+            character.setHealth(playerHealth);
+            character.setDamage(playerDamage);
+            CombatEngine combat = new CombatEngine(rules, random, character, template);
+
+            int[] items = new int[combatItems.size()];
+            Arrays.fill(items, itemsEach);
+            int turns = 0;
+            while (!combat.getState().isFinished() && turns < MAX_PLAYER_TURNS) {
+                if (combat.canAct()) {
+                    turns++;
+                    if (!useItem(combat, items, turns)) {
+                        grid.regenerateGrid();
+                        String word = player.chooseWord(grid.getGrid());
+                        if (word == null) {
+                            stats.stuckTurns++;
+                            continue;
+                        }
+                        combat.castWord(word, player.getLastScore());
+                        stats.addWord(player.getLastScore());
+                    }
+                }
+                combat.update(step);
+            }
+            stats.addBattle(combat, turns);
+        }
+        return stats;
+    }
+
+    // Buff on the first turn, heal when low; true if an item took the turn
+    private boolean useItem(CombatEngine combat, int[] items, int turn) {
+        CombatState state = combat.getState();
+        boolean low = state.getPlayerHealth() < state.getPlayerMaxHealth() * HEAL_BELOW;
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == 0) continue;
+            String effect = combatItems.get(i).getItemEffect();
+            if ((("heal".equals(effect) && low) || ("buff".equals(effect) && turn == 1))
+                    && combat.useItem(combatItems.get(i))) {
+                items[i]--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void printEnemy(Enemy enemy) {
+        Reward reward = GameData.get().getReward(enemy.getRewardID());
+        String drop = reward.getItemID() == null ? "none"
+                : reward.getItemID().getItemName() + " x" + reward.getAmount();
+        System.out.printf(Locale.ROOT, "#%d %s  health %.1f  attack %d  reward %s%n",
+                enemy.getEnemyID(), enemy.getEnemyName(), enemy.getHealth(), enemy.getAttackPower(), drop);
+        System.out.println("  skill   win%  timeout%  turns avg/p50/p90   word pts avg/p10/p50/p90"
+                + "   dmg dealt avg/p50/p90   dmg taken avg/p50/p90  stuck/battle");
+    }
+
+    private void printRow(float skill, BattleStats s) {
+        System.out.printf(Locale.ROOT, "  %5.2f  %5.1f  %7.1f   %5.1f %4d %4d   %7.1f %5d %5d %5d"
+                        + "   %9.1f %5d %5d   %9.1f %5d %5d  %6.2f%n",
+                skill, 100.0 * s.wins / s.battles, 100.0 * s.timeouts / s.battles,
+                s.wins == 0 ? 0 : (double) s.winTurnSum / s.wins,
+                percentile(s.turnsToKill, s.wins, 0.5), percentile(s.turnsToKill, s.wins, 0.9),
+                s.words == 0 ? 0 : s.wordScoreSum / s.words,
+                percentile(s.wordScores, s.words, 0.1), percentile(s.wordScores, s.words, 0.5),
+                percentile(s.wordScores, s.words, 0.9),
+                s.damageDealtSum / s.battles, percentile(s.damageDealt, s.battles, 0.5),
+                percentile(s.damageDealt, s.battles, 0.9),
+                s.damageTakenSum / s.battles, percentile(s.damageTaken, s.battles, 0.5),
+                percentile(s.damageTaken, s.battles, 0.9),
+                (double) s.stuckTurns / s.battles);
+    }
+
+    // Smallest bucket holding at least q of the samples
+    private static int percentile(long[] histogram, long samples, double q) {
+        if (samples == 0) return 0;
+        long target = (long) Math.ceil(samples * q);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= target) return i;
+        }
+        return histogram.length - 1;
+    }
+
+    // Totals for one batch, merged per enemy and skill. Histograms clamp into their last bucket;
+    // damage is bucketed per whole point, per battle.
+    private static final class BattleStats {
+        long battles, wins, timeouts, winTurnSum, words, stuckTurns;
+        double wordScoreSum, damageDealtSum, damageTakenSum;
+        final long[] turnsToKill = new long[MAX_PLAYER_TURNS + 1];
+        final long[] wordScores = new long[512];
+        final long[] damageDealt = new long[2048];
+        final long[] damageTaken = new long[2048];
+
+        void addWord(int score) {
+            words++;
+            wordScoreSum += score;
+            wordScores[Math.min(wordScores.length - 1, score)]++;
+        }
+
+        void addBattle(CombatEngine combat, int turns) {
+            // Summed from the events, so heals don't hide damage taken
+            float dealt = 0, taken = 0;
+            for (CombatEvent event : combat.getHistory()) {
+                switch (event.getType()) {
+                    case WORD_CAST: dealt += event.getAmount(); break;
+                    case ENEMY_ATTACK:
+                    case ENEMY_POWER_ATTACK: taken += event.getAmount(); break;
+                    default: break;
+                }
+            }
+            battles++;
+            damageDealtSum += dealt;
+            damageTakenSum += taken;
+            damageDealt[Math.min(damageDealt.length - 1, (int) dealt)]++;
+            damageTaken[Math.min(damageTaken.length - 1, (int) taken)]++;
+
+            CombatState state = combat.getState();
+            if (state.getOutcome() == CombatState.Outcome.VICTORY) {
+                wins++;
+                winTurnSum += turns;
+                turnsToKill[Math.min(turnsToKill.length - 1, turns)]++;
+            } else if (!state.isFinished()) {
+                timeouts++;
+            }
+        }
+
+        void merge(BattleStats other) {
+            battles += other.battles;
+            wins += other.wins;
+            timeouts += other.timeouts;
+            winTurnSum += other.winTurnSum;
+            words += other.words;
+            stuckTurns += other.stuckTurns;
+            wordScoreSum += other.wordScoreSum;
+            damageDealtSum += other.damageDealtSum;
+            damageTakenSum += other.damageTakenSum;
+            for (int i = 0; i < turnsToKill.length; i++) turnsToKill[i] += other.turnsToKill[i];
+            for (int i = 0; i < wordScores.length; i++) wordScores[i] += other.wordScores[i];
+            for (int i = 0; i < damageDealt.length; i++) damageDealt[i] += other.damageDealt[i];
+            for (int i = 0; i < damageTaken.length; i++) damageTaken[i] += other.damageTaken[i];
+        }
+    }
+}
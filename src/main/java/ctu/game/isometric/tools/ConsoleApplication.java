@@ -0,0 +1,163 @@
+package ctu.game.isometric.tools;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.ApplicationLogger;
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.Net;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationLogger;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import com.badlogic.gdx.utils.Clipboard;
+
+/**
+ * Just enough of a libGDX application for command-line tools: file access and logging, so
+ * the game's loaders can run without opening a window. There is no graphics, audio or
+ * input; posted runnables run immediately on the posting thread.
+ */
+public class ConsoleApplication implements Application {
+    private final Files files = new Lwjgl3Files();
+    private ApplicationLogger logger = new Lwjgl3ApplicationLogger();
+    private int logLevel = LOG_INFO;
+
+    // Install as Gdx.app and Gdx.files
+    public static ConsoleApplication install() {
+        ConsoleApplication app = new ConsoleApplication();
+        Gdx.app = app;
+        Gdx.files = app.files;
+        return app;
+    }
+
+    @Override
+    public ApplicationListener getApplicationListener() {
+        return null;
+    }
+
+    @Override
+    public Graphics getGraphics() {
+        return null;
+    }
+
+    @Override
+    public Audio getAudio() {
+        return null;
+    }
+
+    @Override
+    public Input getInput() {
+        return null;
+    }
+
+    @Override
+    public Files getFiles() {
+        return files;
+    }
+
+    @Override
+    public Net getNet() {
+        return null;
+    }
+
+    @Override
+    public void log(String tag, String message) {
+        if (logLevel >= LOG_INFO) logger.log(tag, message);
+    }
+
+    @Override
+    public void log(String tag, String message, Throwable exception) {
+        if (logLevel >= LOG_INFO) logger.log(tag, message, exception);
+    }
+
+    @Override
+    public void error(String tag, String message) {
+        if (logLevel >= LOG_ERROR) logger.error(tag, message);
+    }
+
+    @Override
+    public void error(String tag, String message, Throwable exception) {
+        if (logLevel >= LOG_ERROR) logger.error(tag, message, exception);
+    }
+
+    @Override
+    public void debug(String tag, String message) {
+        if (logLevel >= LOG_DEBUG) logger.debug(tag, message);
+    }
+
+    @Override
+    public void debug(String tag, String message, Throwable exception) {
+        if (logLevel >= LOG_DEBUG) logger.debug(tag, message, exception);
+    }
+
+    @Override
+    public void setLogLevel(int logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    @Override
+    public int getLogLevel() {
+        return logLevel;
+    }
+
+    @Override
+    public void setApplicationLogger(ApplicationLogger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public ApplicationLogger getApplicationLogger() {
+        return logger;
+    }
+
+    @Override
+    public ApplicationType getType() {
+        return ApplicationType.HeadlessDesktop;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @Override
+    public long getJavaHeap() {
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+
+    @Override
+    public long getNativeHeap() {
+        return getJavaHeap();
+    }
+
+    @Override
+    public Preferences getPreferences(String name) {
+        throw new UnsupportedOperationException("No preferences in console tools");
+    }
+
+    @Override
+    public Clipboard getClipboard() {
+        return null;
+    }
+
+    @Override
+    public void postRunnable(Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public void exit() {
+        System.exit(0);
+    }
+
+    @Override
+    public void addLifecycleListener(LifecycleListener listener) {
+    }
+
+    @Override
+    public void removeLifecycleListener(LifecycleListener listener) {
+    }
+}
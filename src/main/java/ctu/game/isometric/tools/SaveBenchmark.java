@@ -0,0 +1,232 @@
+package ctu.game.isometric.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ctu.game.isometric.model.entity.Character;
+import ctu.game.isometric.model.game.GameSave;
+import ctu.game.isometric.util.BinarySaveCodec;
+import ctu.game.isometric.util.JsonSaveCodec;
+import ctu.game.isometric.util.LearnedWordJournal;
+import ctu.game.isometric.util.SaveCodec;
+import ctu.game.isometric.util.SaveFiles;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Measures the save formats on a synthetic player: a learned-word file of --words random
+ * words and a game save with --events completed events and defeated enemies. Reports the
+ * encoded size and the median encode and decode time of each codec over --runs rounds,
+ * after as many warm-up rounds, plus the binary codec's Smile payload without compression.
+ * Then plays --saves saves that each learn one more word, once through LearnedWordJournal
+ * and once as a full atomic rewrite of the word file, in a temporary directory. Both paths
+ * fsync on every save, so they pay for the same durability.
+ *
+ *   java -cp isometric.jar ctu.game.isometric.tools.SaveBenchmark --words 12000 --events 500
+ *
+ * Options: --words N, --events N, --runs N, --saves N, --seed N.
+ */
+public class SaveBenchmark {
+    private int wordCount = 12000;
+    private int eventCount = 500;
+    private int runs = 200;
+    private int saves = 400;
+    private long seed = 1;
+
+    private Set<String> words;
+    private GameSave gameSave;
+    private int checksum;
+
+    public static void main(String[] args) throws Exception {
+        ConsoleApplication.install();
+        SaveBenchmark benchmark = new SaveBenchmark();
+        benchmark.parseArgs(args);
+        benchmark.generate();
+        benchmark.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--words": wordCount = Integer.parseInt(value); break;
+                case "--events": eventCount = Integer.parseInt(value); break;
+                case "--runs": runs = Math.max(1, Integer.parseInt(value)); break;
+                case "--saves": saves = Math.max(1, Integer.parseInt(value)); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+    }
+
+    // Upper-case words of 3 to 11 letters, like the ones the letter grid produces
+    private void generate() {
+        Random random = new Random(seed);
+        words = new HashSet<>();
+        while (words.size() < wordCount) {
+            words.add(randomWord(random));
+        }
+
+        List<String> events = new ArrayList<>();
+        List<Integer> enemies = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            events.add("event_" + i);
+            enemies.add(i);
+        }
+        gameSave = new GameSave();
+        gameSave.setCharacter(new Character());
+        gameSave.setSaveDate(new Date());
+        gameSave.setSaveName("benchmark");
+        gameSave.setWordFilePath("saves/dictionary/benchmark_dictionary");
+        gameSave.setListIdCompletedEvents(events);
+        gameSave.setListIdDefeatedEnemies(enemies);
+    }
+
+    private void run() throws IOException {
+        System.out.printf(Locale.ROOT, "%d learned words, %d events and enemies, median of %d runs%n%n",
+                wordCount, eventCount, runs);
+        System.out.println("  codec     word file     encode    decode   game save     encode    decode");
+        for (SaveCodec codec : new SaveCodec[]{new JsonSaveCodec(), new BinarySaveCodec()}) {
+            printCodec(codec);
+        }
+        printUncompressed(new BinarySaveCodec().mapper());
+
+        System.out.printf(Locale.ROOT, "%n%d saves learning one word each, fsynced%n", saves);
+        System.out.println("  method          per save     written/save");
+        Path directory = Files.createTempDirectory("save-benchmark");
+        try {
+            benchmarkJournal(directory);
+            benchmarkRewrite(directory);
+        } finally {
+            Gdx.files.absolute(directory.toString()).deleteDirectory();
+        }
+        Gdx.app.debug("SaveBenchmark", "Checksum " + checksum);
+    }
+
+    // Appends one journal record per save (fsynced), compacting every few hundred words
+    private void benchmarkJournal(Path directory) throws IOException {
+        SaveCodec codec = new BinarySaveCodec();
+        FileHandle dir = Gdx.files.absolute(directory.toString());
+        JavaType setType = wordSetType(codec.mapper());
+        LearnedWordJournal journal = new LearnedWordJournal(dir, "journal", codec,
+                file -> codec.decode(file.readBytes(), setType));
+        Set<String> learned = new HashSet<>(words);
+        journal.save(learned);
+
+        Random random = new Random(seed + 1);
+        long bytesBefore = directorySize(directory);
+        long start = System.nanoTime();
+        for (int i = 0; i < saves; i++) {
+            learned.add(randomWord(random));
+            journal.save(learned);
+        }
+        printSaves("journal", System.nanoTime() - start, directorySize(directory) - bytesBefore);
+    }
+
+    // The whole word file written again on every save, fsynced like a journal append
+    private void benchmarkRewrite(Path directory) throws IOException {
+        SaveCodec codec = new BinarySaveCodec();
+        Path file = directory.resolve("rewrite" + codec.getExtension());
+        Set<String> learned = new HashSet<>(words);
+        SaveFiles.writeAtomically(file, codec.encode(learned));
+
+        Random random = new Random(seed + 1);
+        long written = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < saves; i++) {
+            learned.add(randomWord(random));
+            byte[] data = codec.encode(learned);
+            SaveFiles.writeAtomically(file, data);
+            sync(file);
+            written += data.length;
+        }
+        printSaves("full rewrite", System.nanoTime() - start, written);
+    }
+
+    private static void sync(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    private void printSaves(String method, long nanos, long bytes) {
+        System.out.printf(Locale.ROOT, "  %-12s  %7.2f ms  %9d bytes%n",
+                method, nanos / 1e6 / saves, bytes / saves);
+    }
+
+    private static long directorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    private void printCodec(SaveCodec codec) throws IOException {
+        byte[] wordFile = codec.encode(words);
+        byte[] save = codec.encode(gameSave);
+        JavaType setType = wordSetType(codec.mapper());
+        System.out.printf(Locale.ROOT, "  %-6s  %9.1f KB  %6.2f ms %6.2f ms  %7.1f KB  %6.2f ms %6.2f ms%n",
+                codec.getExtension(),
+                wordFile.length / 1024.0, time(() -> codec.encode(words)), time(() -> codec.decode(wordFile, setType)),
+                save.length / 1024.0, time(() -> codec.encode(gameSave)), time(() -> codec.decode(save, GameSave.class)));
+    }
+
+    // What .sav holds inside the gzip stream, to show what compression costs and saves
+    private void printUncompressed(ObjectMapper smile) throws IOException {
+        byte[] wordFile = smile.writeValueAsBytes(words);
+        byte[] save = smile.writeValueAsBytes(gameSave);
+        JavaType setType = wordSetType(smile);
+        System.out.printf(Locale.ROOT, "  %-6s  %9.1f KB  %6.2f ms %6.2f ms  %7.1f KB  %6.2f ms %6.2f ms%n",
+                "smile",
+                wordFile.length / 1024.0, time(() -> smile.writeValueAsBytes(words)), time(() -> smile.readValue(wordFile, setType)),
+                save.length / 1024.0, time(() -> smile.writeValueAsBytes(gameSave)), time(() -> smile.readValue(save, GameSave.class)));
+    }
+
+    // Set<String>, the type the game reads word files as
+    private static JavaType wordSetType(ObjectMapper mapper) {
+        return mapper.getTypeFactory().constructCollectionType(Set.class, String.class);
+    }
+
+    private static String randomWord(Random random) {
+        char[] letters = new char[3 + random.nextInt(9)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    private interface Task {
+        Object run() throws IOException;
+    }
+
+    // Median milliseconds per run. Each result feeds the checksum after its sample is taken,
+    // so the work can't be optimized away and the bookkeeping isn't timed
+    private double time(Task task) throws IOException {
+        for (int i = 0; i < runs; i++) {
+            checksum += System.identityHashCode(task.run());
+        }
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            Object result = task.run();
+            samples[i] = System.nanoTime() - start;
+            checksum += System.identityHashCode(result);
+        }
+        Arrays.sort(samples);
+        return samples[runs / 2] / 1e6;
+    }
+}
@@ -0,0 +1,170 @@
+package ctu.game.isometric.tools;
+
+import ctu.game.isometric.util.WordScoreTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Word-picking AI for combat simulations. A letter grid lets the player spell any word whose
+ * letters it holds, so the playable words are those whose letter counts fit the grid's.
+ * Skill is how much of that list the player manages to look at: it draws that fraction of
+ * the playable words at random and casts the best one it saw. Skill 1 always finds the best.
+ */
+public class SimulatedPlayer {
+    private static final int MIN_WORD_LENGTH = 3;
+    private static final int MAX_WORD_LENGTH = 11;
+
+    private final WordIndex words;
+    private final float skill;
+    private final Random random;
+    private final int[] gridCounts = new int[26];
+    private int[] playable = new int[256];
+
+    private String lastWord;
+    private int lastScore;
+
+    public SimulatedPlayer(WordIndex words, float skill, Random random) {
+        this.words = words;
+        this.skill = Math.max(0, Math.min(1, skill));
+        this.random = random;
+    }
+
+    // Pick a word from the grid, or null if the grid spells nothing the index knows
+    public String chooseWord(char[][] grid) {
+        Arrays.fill(gridCounts, 0);
+        int gridMask = 0;
+        for (char[] row : grid) {
+            for (char c : row) {
+                int letter = c - 'A';
+                if (letter < 0 || letter >= 26) continue;
+                gridCounts[letter]++;
+                gridMask |= 1 << letter;
+            }
+        }
+
+        int count = 0;
+        for (int i = 0; i < words.size(); i++) {
+            if ((words.masks[i] & ~gridMask) != 0 || !fits(words.counts[i])) continue;
+            if (count == playable.length) {
+                playable = Arrays.copyOf(playable, count * 2);
+            }
+            playable[count++] = i;
+        }
+        if (count == 0) {
+            lastWord = null;
+            lastScore = 0;
+            return null;
+        }
+
+        // Words are sorted best first, so the best one seen is the lowest index drawn
+        int best = playable[0];
+        if (skill < 1) {
+            int looks = Math.max(1, Math.round(skill * count));
+            best = Integer.MAX_VALUE;
+            for (int i = 0; i < looks; i++) {
+                best = Math.min(best, playable[random.nextInt(count)]);
+            }
+        }
+        lastWord = words.words[best];
+        lastScore = words.scores[best];
+        return lastWord;
+    }
+
+    private boolean fits(byte[] counts) {
+        for (int i = 0; i < counts.length; i += 2) {
+            if (counts[i + 1] > gridCounts[counts[i]]) return false;
+        }
+        return true;
+    }
+
+    public String getLastWord() {
+        return lastWord;
+    }
+
+    public int getLastScore() {
+        return lastScore;
+    }
+
+    public float getSkill() {
+        return skill;
+    }
+
+    /**
+     * Scored words the grid can produce, best first. Immutable once built, so one index is
+     * shared by every simulation thread.
+     */
+    public static final class WordIndex {
+        private final String[] words;
+        private final int[] scores;
+        private final int[] masks;
+        // Per word: (letter, count) pairs for the distinct letters it uses
+        private final byte[][] counts;
+
+        private WordIndex(List<String> words, List<Integer> wordScores) {
+            int size = words.size();
+            this.words = words.toArray(new String[0]);
+            this.scores = new int[size];
+            this.masks = new int[size];
+            this.counts = new byte[size][];
+            int[] letterCounts = new int[26];
+            for (int i = 0; i < size; i++) {
+                scores[i] = wordScores.get(i);
+                Arrays.fill(letterCounts, 0);
+                String word = this.words[i];
+                for (int c = 0; c < word.length(); c++) {
+                    letterCounts[word.charAt(c) - 'A']++;
+                    masks[i] |= 1 << (word.charAt(c) - 'A');
+                }
+                byte[] pairs = new byte[Integer.bitCount(masks[i]) * 2];
+                int p = 0;
+                for (int letter = 0; letter < 26; letter++) {
+                    if (letterCounts[letter] == 0) continue;
+                    pairs[p++] = (byte) letter;
+                    pairs[p++] = (byte) letterCounts[letter];
+                }
+                counts[i] = pairs;
+            }
+        }
+
+        // Every plain A-Z lemma of playable length with a positive score
+        public static WordIndex fromScoreTable(WordScoreTable table) {
+            List<String> words = new ArrayList<>();
+            List<Integer> scores = new ArrayList<>();
+            List<Integer> order = new ArrayList<>();
+            table.forEach((lemma, packed) -> {
+                String word = lemma.toUpperCase();
+                int score = WordScoreTable.score(packed);
+                if (score <= 0 || !isPlayable(word)) return;
+                order.add(words.size());
+                words.add(word);
+                scores.add(score);
+            });
+
+            order.sort(Comparator.comparingInt((Integer i) -> -scores.get(i)).thenComparing(words::get));
+            List<String> sortedWords = new ArrayList<>(order.size());
+            List<Integer> sortedScores = new ArrayList<>(order.size());
+            for (int i : order) {
+                sortedWords.add(words.get(i));
+                sortedScores.add(scores.get(i));
+            }
+            return new WordIndex(sortedWords, sortedScores);
+        }
+
+        private static boolean isPlayable(String word) {
+            if (word.length() < MIN_WORD_LENGTH || word.length() > MAX_WORD_LENGTH) return false;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (c < 'A' || c > 'Z') return false;
+            }
+            return true;
+        }
+
+        public int size() {
+            return words.length;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ctu.game.isometric.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact binary saves: an 8-byte header (magic + schema version) followed by
+ * Jackson Smile. Older schema versions are upgraded as a tree before binding.
+ *
+ * Saves are written gzip-compressed ("ISZ1"): Deflate with a CRC32 + length trailer
+ * that is checked once the payload has been read, so truncated or damaged files
+ * fail to decode instead of loading partial data. Uncompressed "ISAV" files from
+ * before compression was added still decode.
+ */
+public class BinarySaveCodec implements SaveCodec {
+    public static final String EXTENSION = ".sav";
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final int MAGIC = 0x49534156; // "ISAV", uncompressed
+    private static final int COMPRESSED_MAGIC = 0x49535A31; // "ISZ1"
+
+    // MIGRATIONS.get(v - 1) upgrades a version v tree to version v + 1.
+    // Append a step here whenever SCHEMA_VERSION is bumped.
+    private static final List<UnaryOperator<JsonNode>> MIGRATIONS = List.of();
+
+    private final ObjectMapper objectMapper;
+
+    public BinarySaveCodec() {
+        SmileFactory smileFactory = new SmileFactory();
+        // Back-references for repeated keys and short strings (event ids, word lists)
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES);
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        // The codec owns the compressed streams and closes them itself
+        smileFactory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.objectMapper = SaveCodec.configure(new ObjectMapper(smileFactory));
+    }
+
+    @Override
+    public String getExtension() {
+        return EXTENSION;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(COMPRESSED_MAGIC);
+        header.writeInt(SCHEMA_VERSION);
+        // Fastest level: Smile back-references already remove most repetition
+        try (GZIPOutputStream payload = new GZIPOutputStream(out, 8192) {{
+            def.setLevel(Deflater.BEST_SPEED);
+        }}) {
+            objectMapper.writeValue(payload, value);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(InputStream in, JavaType type) throws IOException {
+        DataInputStream header = new DataInputStream(in);
+        int magic = header.readInt();
+        if (magic != MAGIC && magic != COMPRESSED_MAGIC) {
+            throw new IOException("Not a binary save file");
+        }
+        int version = header.readInt();
+        if (version > SCHEMA_VERSION) {
+            throw new IOException("Save schema " + version + " is newer than supported " + SCHEMA_VERSION);
+        }
+
+        InputStream payload = magic == COMPRESSED_MAGIC ? new GZIPInputStream(in, 8192) : in;
+        T value;
+        // Current saves bind straight from the stream; older ones go through the migration chain
+        if (version == SCHEMA_VERSION) {
+            value = objectMapper.readValue(payload, type);
+        } else {
+            JsonNode tree = objectMapper.readTree(payload);
+            for (int v = version; v < SCHEMA_VERSION; v++) {
+                tree = MIGRATIONS.get(v - 1).apply(tree);
+            }
+            value = objectMapper.readValue(objectMapper.treeAsTokens(tree), type);
+        }
+
+        // The gzip trailer (CRC32 + length) is only verified when the stream hits its end
+        byte[] rest = new byte[512];
+        while (payload.read(rest) != -1) {
+            // drain
+        }
+        return value;
+    }
+
+    @Override
+    public ObjectMapper mapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,245 @@
+package ctu.game.isometric.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import ctu.game.isometric.model.entity.Enemy;
+import ctu.game.isometric.model.entity.EnemyType;
+import ctu.game.isometric.model.game.Items;
+import ctu.game.isometric.model.game.Reward;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Item, enemy and reward definitions from game/items.json, enemies.json and reward.json.
+ * The three files are parsed in parallel into immutable templates, indexed by ID (and items
+ * by name, case-insensitively), and published together as one snapshot. Templates are shared;
+ * only an Enemy's own position is allocated per spawn.
+ *
+ * reload() builds a fresh snapshot and swaps it in, so definitions can change without a
+ * restart; anything already handed out keeps the template it was given. reload(file, source)
+ * re-reads just one file and reuses the other two from the current snapshot. If a file fails
+ * to parse the reload is dropped and the current snapshot stays.
+ */
+public final class GameData {
+    private static final String ITEMS_FILE = "game/items.json";
+    private static final String ENEMIES_FILE = "game/enemies.json";
+    private static final String REWARDS_FILE = "game/reward.json";
+
+    private static volatile GameData current;
+
+    private final Map<Integer, Items> itemsById;
+    private final Map<String, Items> itemsByName;
+    private final List<Items> items;
+    private final Map<Integer, EnemyType> enemiesById;
+    private final List<EnemyType> enemies;
+    private final Map<Integer, Reward> rewardsById;
+    private final Reward defaultReward;
+    // Parsed rows, kept so a single-file reload can rebuild without re-reading the others
+    private final List<Items> itemRows;
+    private final List<EnemyType> enemyRows;
+    private final List<RewardDef> rewardRows;
+
+    private GameData(List<Items> items, List<EnemyType> enemies, List<RewardDef> rewards) {
+        this.itemRows = items;
+        this.enemyRows = enemies;
+        this.rewardRows = rewards;
+        this.itemsById = new HashMap<>();
+        this.itemsByName = new HashMap<>();
+        for (Items item : items) {
+            itemsById.put(item.getItemID(), item);
+            if (item.getItemName() != null) {
+                itemsByName.put(item.getItemName().toLowerCase(Locale.ROOT), item);
+            }
+        }
+        List<Items> itemList = new ArrayList<>(itemsById.values());
+        itemList.sort(Comparator.comparingInt(Items::getItemID));
+        this.items = Collections.unmodifiableList(itemList);
+
+        this.enemiesById = new HashMap<>();
+        for (EnemyType enemy : enemies) {
+            enemiesById.put(enemy.getEnemyID(), enemy);
+        }
+        List<EnemyType> enemyList = new ArrayList<>(enemiesById.values());
+        enemyList.sort(Comparator.comparingInt(EnemyType::getEnemyID));
+        this.enemies = Collections.unmodifiableList(enemyList);
+
+        // Rewards link to items, so they resolve once the item index exists
+        this.rewardsById = new HashMap<>();
+        for (RewardDef def : rewards) {
+            rewardsById.put(def.id, new Reward(def.id, getItem(def.itemId), def.amount, def.description));
+        }
+        this.defaultReward = new Reward(0, getItem(1), 1, "A basic reward."); // Default to first item
+    }
+
+    // Current definitions, loading them on first use
+    public static GameData get() {
+        GameData data = current;
+        if (data == null) {
+            synchronized (GameData.class) {
+                data = current;
+                if (data == null) {
+                    data = loadOrEmpty();
+                    current = data;
+                }
+            }
+        }
+        return data;
+    }
+
+    // Re-read every file and swap in the result; false (and nothing changes) if any file failed
+    public static synchronized boolean reload() {
+        try {
+            current = load();
+            Gdx.app.log("GameData", "Game data reloaded");
+            return true;
+        } catch (RuntimeException e) {
+            Gdx.app.error("GameData", "Reload failed, keeping the current game data", e);
+            return false;
+        }
+    }
+
+    public static boolean isDataFile(String file) {
+        return ITEMS_FILE.equals(file) || ENEMIES_FILE.equals(file) || REWARDS_FILE.equals(file);
+    }
+
+    // Re-read one data file (e.g. "game/items.json") from source and swap in the result
+    public static synchronized boolean reload(String file, FileHandle source) {
+        GameData base = get();
+        try {
+            GameData data;
+            switch (file) {
+                case ITEMS_FILE:
+                    data = new GameData(readItems(source), base.enemyRows, base.rewardRows);
+                    break;
+                case ENEMIES_FILE:
+                    data = new GameData(base.itemRows, readEnemies(source), base.rewardRows);
+                    break;
+                case REWARDS_FILE:
+                    data = new GameData(base.itemRows, base.enemyRows, readRewards(source));
+                    break;
+                default:
+                    return false;
+            }
+            current = data;
+            Gdx.app.log("GameData", "Reloaded " + file);
+            return true;
+        } catch (RuntimeException e) {
+            Gdx.app.error("GameData", "Reload of " + file + " failed, keeping the current game data", e);
+            return false;
+        }
+    }
+
+    private static GameData loadOrEmpty() {
+        try {
+            return load();
+        } catch (RuntimeException e) {
+            Gdx.app.error("GameData", "Error loading game data", e);
+            return new GameData(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        }
+    }
+
+    private static GameData load() {
+        CompletableFuture<List<Items>> items = CompletableFuture.supplyAsync(
+                () -> readItems(Gdx.files.internal(ITEMS_FILE)));
+        CompletableFuture<List<EnemyType>> enemies = CompletableFuture.supplyAsync(
+                () -> readEnemies(Gdx.files.internal(ENEMIES_FILE)));
+        CompletableFuture<List<RewardDef>> rewards = CompletableFuture.supplyAsync(
+                () -> readRewards(Gdx.files.internal(REWARDS_FILE)));
+        GameData data = new GameData(items.join(), enemies.join(), rewards.join());
+        Gdx.app.log("GameData", "Loaded " + data.items.size() + " items, " + data.enemies.size()
+                + " enemies, " + data.rewardsById.size() + " rewards");
+        return data;
+    }
+
+    private static List<Items> readItems(FileHandle file) {
+        List<Items> items = new ArrayList<>();
+        for (JsonValue json : new JsonReader().parse(file)) {
+            items.add(new Items(
+                    json.getInt("itemID"),
+                    json.getString("itemName"),
+                    json.getString("itemDescription", null),
+                    json.getString("texturePath", null),
+                    json.getString("itemEffect", "N/A"),
+                    json.getFloat("value", 0.0f)));
+        }
+        return items;
+    }
+
+    private static List<EnemyType> readEnemies(FileHandle file) {
+        List<EnemyType> enemies = new ArrayList<>();
+        for (JsonValue json : new JsonReader().parse(file)) {
+            // enemies.json spells it rewardId; accept both
+            int rewardId = json.has("rewardID") ? json.getInt("rewardID") : json.getInt("rewardId", 0);
+            enemies.add(new EnemyType(
+                    json.getInt("enemyID"),
+                    json.getString("enemyName"),
+                    json.getString("enemyDescription", null),
+                    json.getString("texturePath", null),
+                    json.getFloat("health"),
+                    json.getInt("attackPower"),
+                    rewardId));
+        }
+        return enemies;
+    }
+
+    private static List<RewardDef> readRewards(FileHandle file) {
+        List<RewardDef> rewards = new ArrayList<>();
+        for (JsonValue json : new JsonReader().parse(file)) {
+            rewards.add(new RewardDef(json.getInt("rewardID"), json.getInt("itemID"),
+                    json.getInt("amount"), json.getString("description", "")));
+        }
+        return rewards;
+    }
+
+    public Items getItem(int id) {
+        return itemsById.getOrDefault(id, Items.UNKNOWN);
+    }
+
+    public Items getItem(String name) {
+        Items item = name == null ? null : itemsByName.get(name.toLowerCase(Locale.ROOT));
+        return item != null ? item : Items.UNKNOWN;
+    }
+
+    public List<Items> getItems() {
+        return items;
+    }
+
+    public EnemyType getEnemyType(int id) {
+        return enemiesById.getOrDefault(id, EnemyType.UNKNOWN);
+    }
+
+    public List<EnemyType> getEnemyTypes() {
+        return enemies;
+    }
+
+    // A new enemy of the given type, or of the unknown type if there is none
+    public Enemy spawnEnemy(int id) {
+        return new Enemy(getEnemyType(id));
+    }
+
+    public Reward getReward(int id) {
+        return rewardsById.getOrDefault(id, defaultReward);
+    }
+
+    // reward.json row before its item is resolved
+    private static final class RewardDef {
+        final int id, itemId, amount;
+        final String description;
+
+        RewardDef(int id, int itemId, int amount, String description) {
+            this.id = id;
+            this.itemId = itemId;
+            this.amount = amount;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ctu.game.isometric.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Pretty-printed JSON, kept for debugging and for reading older saves
+public class JsonSaveCodec implements SaveCodec {
+    public static final String EXTENSION = ".json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonSaveCodec() {
+        this.objectMapper = SaveCodec.configure(new ObjectMapper());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public String getExtension() {
+        return EXTENSION;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(InputStream in, JavaType type) throws IOException {
+        return objectMapper.readValue(in, type);
+    }
+
+    @Override
+    public ObjectMapper mapper() {
+        return objectMapper;
+    }
+}
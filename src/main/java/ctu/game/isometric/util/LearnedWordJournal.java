@@ -0,0 +1,212 @@
+package ctu.game.isometric.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Learned words stored as a snapshot plus an append-only journal of additions.
+ * Saving after learning a word appends one small record; the journal is folded
+ * back into the snapshot once it grows past COMPACT_THRESHOLD records.
+ *
+ * Records are [length:u16][utf-8 term][crc32:i32]. A torn or corrupt tail left by a
+ * crash mid-append is dropped on replay. Compaction writes the snapshot atomically
+ * before truncating the journal, and replay is a set union, so a crash between the
+ * two steps only leaves records that are already in the snapshot.
+ */
+public class LearnedWordJournal {
+    public static final String JOURNAL_EXTENSION = ".journal";
+    private static final int MAGIC = 0x494A4E31; // "IJN1"
+    private static final int COMPACT_THRESHOLD = 512;
+
+    public interface SnapshotReader {
+        Set<String> read(FileHandle snapshot) throws IOException;
+    }
+
+    private final FileHandle directory;
+    private final String baseName;
+    private final SaveCodec codec;
+    private final SnapshotReader snapshotReader;
+
+    // Words known to be on disk (snapshot + journal); null until first use
+    private Set<String> persisted;
+    private int journalRecords;
+    private boolean compactRequired;
+
+    public LearnedWordJournal(FileHandle directory, String baseName, SaveCodec codec, SnapshotReader snapshotReader) {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.codec = codec;
+        this.snapshotReader = snapshotReader;
+    }
+
+    // Persist the full learned-word set, appending only what changed since the last call
+    public void save(Set<String> words) throws IOException {
+        if (persisted == null || !snapshotFile().exists()) {
+            open();
+        }
+
+        // Removals can't be journaled; rewrite the snapshot instead
+        if (compactRequired || !words.containsAll(persisted)) {
+            compact(words);
+            return;
+        }
+
+        List<String> added = new ArrayList<>();
+        for (String word : words) {
+            if (!persisted.contains(word)) {
+                added.add(word);
+            }
+        }
+        if (added.isEmpty()) return;
+
+        if (journalRecords + added.size() > COMPACT_THRESHOLD) {
+            compact(words);
+            return;
+        }
+        append(journalFile(directory, baseName).file().toPath(), added);
+        persisted.addAll(added);
+        journalRecords += added.size();
+    }
+
+    // Snapshot plus journal for a dictionary file referenced by a save
+    public static Set<String> load(FileHandle snapshot, SnapshotReader snapshotReader) throws IOException {
+        Set<String> words = new HashSet<>();
+        if (snapshot.exists()) {
+            words.addAll(snapshotReader.read(snapshot));
+        }
+        replay(journalFile(snapshot.parent(), snapshot.nameWithoutExtension()).file().toPath(), words);
+        return words;
+    }
+
+    public static FileHandle journalFile(FileHandle directory, String baseName) {
+        return directory.child(baseName + JOURNAL_EXTENSION);
+    }
+
+    private void open() throws IOException {
+        persisted = new HashSet<>();
+        FileHandle snapshot = snapshotFile();
+        if (snapshot.exists()) {
+            persisted.addAll(snapshotReader.read(snapshot));
+            compactRequired = false;
+        } else {
+            // Missing, or only present in another save format: write one on the first save
+            for (FileHandle other : otherFormatSnapshots()) {
+                if (other.exists()) {
+                    persisted.addAll(snapshotReader.read(other));
+                }
+            }
+            compactRequired = true;
+        }
+        journalRecords = replay(journalFile(directory, baseName).file().toPath(), persisted);
+    }
+
+    private void compact(Set<String> words) throws IOException {
+        FileHandle snapshot = snapshotFile();
+        SaveFiles.writeAtomically(snapshot.file().toPath(), codec.encode(words));
+        for (FileHandle other : otherFormatSnapshots()) {
+            if (other.exists()) {
+                other.delete();
+            }
+        }
+        Files.deleteIfExists(journalFile(directory, baseName).file().toPath());
+
+        persisted = new HashSet<>(words);
+        journalRecords = 0;
+        compactRequired = false;
+    }
+
+    private FileHandle snapshotFile() {
+        return directory.child(baseName + codec.getExtension());
+    }
+
+    private List<FileHandle> otherFormatSnapshots() {
+        List<FileHandle> others = new ArrayList<>();
+        for (String extension : new String[]{JsonSaveCodec.EXTENSION, BinarySaveCodec.EXTENSION}) {
+            if (!extension.equals(codec.getExtension())) {
+                others.add(directory.child(baseName + extension));
+            }
+        }
+        return others;
+    }
+
+    private static void append(Path journal, Collection<String> words) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        CRC32 crc = new CRC32();
+
+        Files.createDirectories(journal.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            if (channel.size() == 0) {
+                out.writeInt(MAGIC);
+            }
+            for (String word : words) {
+                byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+                crc.reset();
+                crc.update(bytes);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+                out.writeInt((int) crc.getValue());
+            }
+            ByteBuffer data = ByteBuffer.wrap(buffer.toByteArray());
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        }
+    }
+
+    // Adds every intact record to words and cuts off a damaged tail; returns the record count
+    private static int replay(Path journal, Set<String> words) throws IOException {
+        if (!Files.exists(journal)) return 0;
+
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(journal));
+        if (data.remaining() < 4 || data.getInt() != MAGIC) {
+            Gdx.app.error("LearnedWordJournal", "Discarding unreadable journal: " + journal);
+            Files.delete(journal);
+            return 0;
+        }
+
+        CRC32 crc = new CRC32();
+        int records = 0;
+        int validEnd = data.position();
+        while (data.remaining() >= 2) {
+            int length = data.getShort() & 0xFFFF;
+            if (data.remaining() < length + 4) break;
+
+            byte[] bytes = new byte[length];
+            data.get(bytes);
+            crc.reset();
+            crc.update(bytes);
+            if (data.getInt() != (int) crc.getValue()) break;
+
+            words.add(new String(bytes, StandardCharsets.UTF_8));
+            records++;
+            validEnd = data.position();
+        }
+
+        if (validEnd < data.limit()) {
+            Gdx.app.error("LearnedWordJournal", "Truncating damaged journal tail: " + journal);
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(validEnd);
+            }
+        }
+        return records;
+    }
+}
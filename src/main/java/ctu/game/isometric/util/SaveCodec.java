@@ -0,0 +1,45 @@
+package ctu.game.isometric.util;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Encodes save data to bytes and back. GameSaveController picks a codec for writing
+ * and chooses the codec for reading from the file extension, so both formats load.
+ */
+public interface SaveCodec {
+
+    String getExtension();
+
+    byte[] encode(Object value) throws IOException;
+
+    // Decodes in one pass over the stream; the caller closes it
+    <T> T decode(InputStream in, JavaType type) throws IOException;
+
+    default <T> T decode(InputStream in, Class<T> type) throws IOException {
+        return decode(in, mapper().getTypeFactory().constructType(type));
+    }
+
+    default <T> T decode(byte[] data, JavaType type) throws IOException {
+        return decode(new ByteArrayInputStream(data), type);
+    }
+
+    default <T> T decode(byte[] data, Class<T> type) throws IOException {
+        return decode(new ByteArrayInputStream(data), type);
+    }
+
+    ObjectMapper mapper();
+
+    // Saves serialize fields directly, ignoring getters/setters
+    static ObjectMapper configure(ObjectMapper objectMapper) {
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        return objectMapper;
+    }
+}
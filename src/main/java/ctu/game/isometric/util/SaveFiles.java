@@ -0,0 +1,39 @@
+package ctu.game.isometric.util;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Crash-safe file replacement shared by the save slots, quick saves, the word journal
+ * snapshot and the slot index. Data goes to a sibling temp file first and is renamed over
+ * the target, so a crash leaves either the old file or the new one, never a partial write.
+ */
+public final class SaveFiles {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private SaveFiles() {
+    }
+
+    public static void writeAtomically(FileHandle target, byte[] data) throws IOException {
+        writeAtomically(target.file().toPath(), data, null);
+    }
+
+    public static void writeAtomically(Path path, byte[] data) throws IOException {
+        writeAtomically(path, data, null);
+    }
+
+    // With a backup path, the replaced file is moved there before the new one takes its place
+    public static void writeAtomically(Path path, byte[] data, Path backup) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.write(temp, data);
+        if (backup != null && Files.exists(path)) {
+            Files.move(path, backup, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,135 @@
+package ctu.game.isometric.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import ctu.game.isometric.model.entity.Character;
+import ctu.game.isometric.model.entity.Gender;
+import ctu.game.isometric.model.game.GameSave;
+import ctu.game.isometric.model.game.SaveSlot;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Slot summaries for every save in the save directory, stored in one small file.
+ * The index is rewritten atomically after each save or delete. Listing compares it
+ * against the directory (names, sizes, timestamps) and re-reads only the saves that
+ * changed behind its back, e.g. after a crash between writing a save and the index.
+ */
+public class SaveSlotIndex {
+    public static final String INDEX_FILE = "slots.idx";
+
+    private final FileHandle directory;
+    private final SaveCodec codec;
+    private final Function<FileHandle, GameSave> saveReader;
+    private final Map<String, SaveSlot> slots = new HashMap<>();
+    private boolean loaded = false;
+
+    public SaveSlotIndex(FileHandle directory, SaveCodec codec, Function<FileHandle, GameSave> saveReader) {
+        this.directory = directory;
+        this.codec = codec;
+        this.saveReader = saveReader;
+    }
+
+    // Slots for the given save files, newest first
+    public synchronized List<SaveSlot> getSlots(FileHandle[] saveFiles) {
+        ensureLoaded();
+
+        boolean changed = false;
+        Map<String, FileHandle> present = new HashMap<>();
+        for (FileHandle file : saveFiles) {
+            present.put(file.name(), file);
+            SaveSlot slot = slots.get(file.name());
+            if (slot == null || slot.getFileLength() != file.length() || slot.getLastModified() != file.lastModified()) {
+                slots.put(file.name(), createSlot(file, saveReader.apply(file)));
+                changed = true;
+            }
+        }
+        if (slots.keySet().retainAll(present.keySet())) {
+            changed = true;
+        }
+        if (changed) {
+            write();
+        }
+
+        List<SaveSlot> sorted = new ArrayList<>(slots.values());
+        sorted.sort(Comparator.comparing(SaveSlot::getSaveDate, Comparator.nullsFirst(Comparator.<Date>naturalOrder())).reversed());
+        return sorted;
+    }
+
+    // Record a save that was just written; replaces the slot under any other extension
+    public synchronized void put(FileHandle saveFile, GameSave save) {
+        ensureLoaded();
+        String baseName = saveFile.nameWithoutExtension();
+        slots.values().removeIf(slot -> !slot.getFileName().equals(saveFile.name())
+                && baseName.equals(stripExtension(slot.getFileName())));
+        slots.put(saveFile.name(), createSlot(saveFile, save));
+        write();
+    }
+
+    public synchronized void remove(String fileName) {
+        ensureLoaded();
+        if (slots.remove(fileName) != null) {
+            write();
+        }
+    }
+
+    private SaveSlot createSlot(FileHandle file, GameSave save) {
+        SaveSlot slot = new SaveSlot();
+        slot.setFileName(file.name());
+        slot.setFileLength(file.length());
+        slot.setLastModified(file.lastModified());
+
+        if (save == null || save.getCharacter() == null) {
+            // Unreadable save: keep it listed so it can still be deleted
+            slot.setCharacterName(file.nameWithoutExtension().split("_")[0]);
+            return slot;
+        }
+
+        Character character = save.getCharacter();
+        slot.setCharacterName(character.getName());
+        slot.setSaveDate(save.getSaveDate());
+        slot.setPlayTime(character.getPlayTime());
+        slot.setScore(character.getScore());
+        slot.setThumbnail(character.getGender() == Gender.FEMALE
+                ? "characters/female_avatar.png" : "characters/male_avatar.png");
+        return slot;
+    }
+
+    private static String stripExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? fileName : fileName.substring(0, dot);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+
+        FileHandle file = directory.child(INDEX_FILE);
+        if (!file.exists()) return;
+        try {
+            List<SaveSlot> stored = codec.decode(file.readBytes(),
+                    codec.mapper().getTypeFactory().constructCollectionType(List.class, SaveSlot.class));
+            for (SaveSlot slot : stored) {
+                slots.put(slot.getFileName(), slot);
+            }
+        } catch (Exception e) {
+            // Rebuilt from the save files on the next listing
+            Gdx.app.error("SaveSlotIndex", "Error reading save index: " + e.getMessage());
+        }
+    }
+
+    private void write() {
+        try {
+            SaveFiles.writeAtomically(directory.child(INDEX_FILE), codec.encode(new ArrayList<>(slots.values())));
+        } catch (IOException e) {
+            Gdx.app.error("SaveSlotIndex", "Error writing save index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package ctu.game.isometric.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Frame-driven timers on a hashed timing wheel. Time only advances through update(delta),
+ * so timers stop with the game loop and never fire on another thread. Elapsed time is kept
+ * in whole microseconds to avoid float drift; a timer fires on the first update at or after
+ * its deadline, at most one tick late.
+ *
+ * Scheduling and cancelling are O(1). An update with nothing scheduled only advances the
+ * clock; otherwise it visits the slots for the ticks that passed.
+ *
+ * Game thread only.
+ */
+public class TimerService {
+    private static final long TICK_MICROS = 10_000; // 10 ms
+    private static final int WHEEL_SIZE = 256;       // 2.56 s per revolution
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Handle[] wheel = new Handle[WHEEL_SIZE];
+    // Due handles collected before running, so callbacks can freely schedule and cancel
+    private final List<Handle> firing = new ArrayList<>();
+    private long nowMicros = 0;
+    private long processedTick = 0;
+    private int size = 0;
+
+    // Run task once after delay seconds
+    public Handle schedule(Runnable task, float delay) {
+        return scheduleRepeating(task, delay, 0);
+    }
+
+    // Run task after delay seconds, then every interval seconds until cancelled
+    public Handle scheduleRepeating(Runnable task, float delay, float interval) {
+        if (task == null) throw new IllegalArgumentException("task must not be null");
+        Handle handle = new Handle(task, toMicros(interval));
+        insert(handle, nowMicros + toMicros(delay));
+        return handle;
+    }
+
+    public void update(float delta) {
+        if (delta <= 0) return;
+        nowMicros += toMicros(delta);
+        long targetTick = nowMicros / TICK_MICROS;
+
+        if (size == 0) {
+            processedTick = targetTick;
+            return;
+        }
+
+        // After a long stall one pass over the wheel finds everything that is due
+        long steps = Math.min(targetTick - processedTick, WHEEL_SIZE);
+        for (long i = 1; i <= steps; i++) {
+            collectDue(wheel[(int) ((processedTick + i) & WHEEL_MASK)], targetTick);
+        }
+        processedTick = targetTick;
+
+        for (int i = 0; i < firing.size(); i++) {
+            Handle handle = firing.get(i);
+            if (handle.state != Handle.FIRING) continue; // cancelled by an earlier callback
+            if (handle.interval > 0) {
+                insert(handle, handle.deadline + handle.interval);
+            } else {
+                handle.state = Handle.IDLE;
+            }
+            handle.task.run();
+        }
+        firing.clear();
+    }
+
+    // Cancel every scheduled timer
+    public void clear() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            Handle handle = wheel[i];
+            while (handle != null) {
+                Handle next = handle.next;
+                handle.state = Handle.IDLE;
+                handle.next = null;
+                handle.prev = null;
+                handle = next;
+            }
+            wheel[i] = null;
+        }
+        for (Handle handle : firing) {
+            handle.state = Handle.IDLE;
+        }
+        size = 0;
+    }
+
+    // Seconds of game time since this service was created
+    public double getTime() {
+        return nowMicros / 1_000_000.0;
+    }
+
+    public int getScheduledCount() {
+        return size;
+    }
+
+    private void collectDue(Handle handle, long targetTick) {
+        while (handle != null) {
+            Handle next = handle.next;
+            if (handle.deadlineTick <= targetTick) {
+                unlink(handle);
+                handle.state = Handle.FIRING;
+                firing.add(handle);
+            }
+            handle = next;
+        }
+    }
+
+    private void insert(Handle handle, long deadline) {
+        handle.deadline = deadline;
+        // Round up so a timer never fires before its deadline
+        handle.deadlineTick = Math.max((deadline + TICK_MICROS - 1) / TICK_MICROS, processedTick + 1);
+        handle.slot = (int) (handle.deadlineTick & WHEEL_MASK);
+        handle.prev = null;
+        handle.next = wheel[handle.slot];
+        if (handle.next != null) {
+            handle.next.prev = handle;
+        }
+        wheel[handle.slot] = handle;
+        handle.state = Handle.SCHEDULED;
+        size++;
+    }
+
+    private void unlink(Handle handle) {
+        if (handle.prev != null) {
+            handle.prev.next = handle.next;
+        } else {
+            wheel[handle.slot] = handle.next;
+        }
+        if (handle.next != null) {
+            handle.next.prev = handle.prev;
+        }
+        handle.prev = null;
+        handle.next = null;
+        size--;
+    }
+
+    private static long toMicros(float seconds) {
+        return Math.max(0, Math.round(seconds * 1_000_000.0));
+    }
+
+    public final class Handle {
+        private static final int IDLE = 0;
+        private static final int SCHEDULED = 1;
+        private static final int FIRING = 2;
+
+        private final Runnable task;
+        private final long interval;
+        private long deadline;
+        private long deadlineTick;
+        private int slot;
+        private int state = IDLE;
+        private Handle prev, next;
+
+        private Handle(Runnable task, long interval) {
+            this.task = task;
+            this.interval = interval;
+        }
+
+        // Stop the timer; safe to call more than once or after it fired
+        public void cancel() {
+            if (state == SCHEDULED) {
+                unlink(this);
+            }
+            state = IDLE;
+        }
+
+        public boolean isScheduled() {
+            return state != IDLE;
+        }
+
+        // Seconds until the next firing, 0 once fired or cancelled
+        public float getRemaining() {
+            if (state == IDLE) return 0;
+            return Math.max(0, deadline - nowMicros) / 1_000_000f;
+        }
+    }
+}
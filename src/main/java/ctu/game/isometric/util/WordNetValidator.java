@@ -21,6 +21,13 @@ public class WordNetValidator {
     private volatile boolean dictionaryLoaded = false;
     private static final int CACHE_SIZE = 100;
 
+    private static final String WORDNET_PATH = "src/main/resources/game/dict";
+    // Precomputed lemma -> score index, built once and cached on disk
+    private static final String SCORE_TABLE_PATH = "cache/word_scores.bin";
+    // Bump whenever calculateScore/getEnhancedScore change so cached tables are rebuilt
+    private static final int SCORE_VERSION = 1;
+    private static volatile WordScoreTable scoreTable;
+
     // Filter parameters
     private static final int MIN_WORD_LENGTH = 3;
     private static final int MAX_WORD_LENGTH = 11;
@@ -66,12 +73,12 @@ public synchronized void loadDictionary() {
     if (dictionaryLoaded) return;
 
     try {
-        String wordNetPath = "src/main/resources/game/dict";
-        URL url = new File(wordNetPath).toURI().toURL();
+        URL url = new File(WORDNET_PATH).toURI().toURL();
         dictionary = new Dictionary(url);
         dictionary.open();
         dictionaryLoaded = true;
         Gdx.app.log("WordNetValidator", "WordNet dictionary loaded");
+        loadScoreTable();
     } catch (IOException e) {
         Gdx.app.error("WordNetValidator", "Failed to load WordNet dictionary", e);
     }
@@ -206,6 +213,110 @@ public synchronized void loadDictionary() {
         return word.getDefinitions().isEmpty() ? null : word;
     }
 
+    // Load the score table from cache, or build it from WordNet off the render thread
+    private void loadScoreTable() {
+        if (scoreTable != null) return;
+
+        Thread worker = new Thread(WordNetValidator::awaitScoreTable, "word-score-table");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // Score table, reading or building it on the calling thread if it isn't ready yet.
+    // Needs the dictionary loaded; for tools that run without a render loop.
+    public static synchronized WordScoreTable awaitScoreTable() {
+        if (scoreTable != null) return scoreTable;
+
+        FileHandle cacheFile = Gdx.files.local(SCORE_TABLE_PATH);
+        long fingerprint = wordNetFingerprint();
+        WordScoreTable table = WordScoreTable.readFrom(cacheFile, SCORE_VERSION, fingerprint);
+        if (table == null) {
+            table = buildScoreTable();
+            try {
+                table.writeTo(cacheFile, SCORE_VERSION, fingerprint);
+            } catch (IOException e) {
+                Gdx.app.error("WordNetValidator", "Failed to cache word score table", e);
+            }
+        }
+        scoreTable = table;
+        Gdx.app.log("WordNetValidator", "Word score table ready (" + table.size() + " words)");
+        return table;
+    }
+
+    // Name, size and modification time of every WordNet file, so any data change shows up
+    private static long wordNetFingerprint() {
+        File[] files = new File(WORDNET_PATH).listFiles(File::isFile);
+        if (files == null) return 0;
+
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        long hash = files.length;
+        for (File file : files) {
+            hash = hash * 31 + file.getName().hashCode();
+            hash = hash * 31 + file.length();
+            hash = hash * 31 + file.lastModified();
+        }
+        return hash;
+    }
+
+    private static WordScoreTable buildScoreTable() {
+        POS[] posValues = POS.values();
+
+        // Sense counts per POS for every lemma the letter grid can produce
+        Map<String, int[]> senseCounts = new HashMap<>();
+        for (POS pos : posValues) {
+            Iterator<IIndexWord> iterator = dictionary.getIndexWordIterator(pos);
+            while (iterator.hasNext()) {
+                IIndexWord indexWord = iterator.next();
+                String lemma = indexWord.getLemma();
+                if (!isIndexable(lemma)) continue;
+                senseCounts.computeIfAbsent(lemma, k -> new int[posValues.length])[pos.ordinal()]
+                        += indexWord.getWordIDs().size();
+            }
+        }
+
+        WordScoreTable table = new WordScoreTable(senseCounts.size());
+        for (Map.Entry<String, int[]> entry : senseCounts.entrySet()) {
+            String lemma = entry.getKey();
+            int[] counts = entry.getValue();
+
+            int best = 0;
+            for (int i = 1; i < counts.length; i++) {
+                if (counts[i] > counts[best]) best = i;
+            }
+
+            PartOfSpeech pos = mapWordNetPOS(posValues[best]);
+            int synonymCount = countSynonyms(lemma);
+            table.put(lemma, WordScoreTable.pack(getEnhancedScore(lemma, pos, synonymCount), pos, synonymCount));
+        }
+        return table;
+    }
+
+    // Only single words within the playable length range are indexed
+    private static boolean isIndexable(String lemma) {
+        if (lemma.length() < MIN_WORD_LENGTH || lemma.length() > MAX_WORD_LENGTH) return false;
+        for (int i = 0; i < lemma.length(); i++) {
+            if (!Character.isLetter(lemma.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    // Score a submitted word without building its full WordDefinition list
+    public int getWordScore(String term) {
+        if (term == null) return 0;
+
+        String text = term.trim();
+        WordScoreTable table = scoreTable;
+        if (table != null) {
+            int packed = table.lookup(text);
+            if (packed != WordScoreTable.MISSING) {
+                return WordScoreTable.score(packed);
+            }
+            // Indexable but absent means WordNet doesn't know the word
+            if (isIndexable(text)) return 0;
+        }
+        return getTotalScore(getWordDetails(text));
+    }
+
     public void close() {
         if (dictionary != null && dictionary.isOpen()) {
             dictionary.close();
@@ -308,6 +419,14 @@ public synchronized void loadDictionary() {
 
         String text = word.getTerm().trim();
 
+        WordScoreTable table = scoreTable;
+        if (table != null) {
+            int packed = table.lookup(text);
+            if (packed != WordScoreTable.MISSING) {
+                return WordScoreTable.score(packed);
+            }
+        }
+
         // Get part of speech from WordNet or word definitions
         PartOfSpeech pos = determinePartOfSpeech(text, word);
         // Estimate word frequency using WordNet
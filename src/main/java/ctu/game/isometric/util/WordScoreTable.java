@@ -0,0 +1,155 @@
+package ctu.game.isometric.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Precomputed word score index: lemma -> (score, part of speech, synonym count).
+ * Keys live in an open-addressing table probed case-insensitively, and each value
+ * is a single packed int, so scoring a word is one hash probe and one array read.
+ *
+ * The cache file header records the file format, the scoring version and a fingerprint
+ * of the WordNet files it was built from; a file that doesn't match any of them is
+ * ignored so the table gets rebuilt.
+ */
+public class WordScoreTable {
+    private static final int MAGIC = 0x57535431; // "WST1"
+    private static final int FORMAT_VERSION = 2;
+    public static final int MISSING = -1;
+
+    // Packed layout: score (16 bits) | synonym count (12 bits) | POS ordinal (4 bits)
+    private static final int SCORE_MASK = 0xFFFF;
+    private static final int SYNONYM_SHIFT = 16;
+    private static final int SYNONYM_MASK = 0xFFF;
+    private static final int POS_SHIFT = 28;
+
+    private final String[] keys;
+    private final int[] entries;
+    private final int mask;
+    private int size;
+
+    public WordScoreTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.keys = new String[capacity];
+        this.entries = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static int pack(int score, WordNetValidator.PartOfSpeech pos, int synonymCount) {
+        return (Math.min(score, SCORE_MASK))
+                | (Math.min(synonymCount, SYNONYM_MASK) << SYNONYM_SHIFT)
+                | (pos.ordinal() << POS_SHIFT);
+    }
+
+    public static int score(int packed) {
+        return packed & SCORE_MASK;
+    }
+
+    public static int synonymCount(int packed) {
+        return (packed >>> SYNONYM_SHIFT) & SYNONYM_MASK;
+    }
+
+    public static WordNetValidator.PartOfSpeech partOfSpeech(int packed) {
+        return WordNetValidator.PartOfSpeech.values()[packed >>> POS_SHIFT];
+    }
+
+    public void put(String lemma, int packed) {
+        int slot = hash(lemma) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equalsIgnoreCase(lemma)) {
+                entries[slot] = packed;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = lemma.toLowerCase();
+        entries[slot] = packed;
+        size++;
+    }
+
+    // Returns the packed entry for the term, or MISSING
+    public int lookup(String term) {
+        int slot = hash(term) & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key.length() == term.length() && key.equalsIgnoreCase(term)) {
+                return entries[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Visit every lemma with its packed entry
+    public void forEach(ObjIntConsumer<String> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], entries[i]);
+            }
+        }
+    }
+
+    // Case-insensitive hash so lookups don't need to lower-case the term first
+    private static int hash(String s) {
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + Character.toLowerCase(s.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    // scoreVersion and sourceFingerprint identify the scoring code and data the table came from
+    public void writeTo(FileHandle file, int scoreVersion, long sourceFingerprint) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(scoreVersion);
+            out.writeLong(sourceFingerprint);
+            out.writeInt(size);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    out.writeUTF(keys[i]);
+                    out.writeInt(entries[i]);
+                }
+            }
+        }
+    }
+
+    // The cached table, or null if it is missing, unreadable or built by other code or data
+    public static WordScoreTable readFrom(FileHandle file, int scoreVersion, long sourceFingerprint) {
+        if (!file.exists()) return null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                Gdx.app.log("WordScoreTable", "Score table format changed, rebuilding: " + file.path());
+                return null;
+            }
+            if (in.readInt() != scoreVersion || in.readLong() != sourceFingerprint) {
+                Gdx.app.log("WordScoreTable", "Scoring or WordNet data changed, rebuilding: " + file.path());
+                return null;
+            }
+
+            int count = in.readInt();
+            WordScoreTable table = new WordScoreTable(count);
+            for (int i = 0; i < count; i++) {
+                String lemma = in.readUTF();
+                table.put(lemma, in.readInt());
+            }
+            return table;
+        } catch (IOException e) {
+            Gdx.app.error("WordScoreTable", "Failed to read score table: " + file.path(), e);
+            return null;
+        }
+    }
+}
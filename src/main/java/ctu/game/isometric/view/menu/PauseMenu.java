@@ -93,26 +93,27 @@ public class PauseMenu {
     private void showSaveGameDialog() {
         // For now, just generate a timestamp-based name
         Character character = gameController.getCharacter();
-        GameSaveController saveService = new GameSaveController();
+        GameSaveController saveService = gameController.getGameSaveController();
 
         // Create a timestamped filename
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
         String filename = gameController.getCharacter().getName() + "_" + sdf.format(new Date());
 
 
-        boolean saved = saveService.saveGame(character, filename,gameController.getEventManager());
-        if (saved) {
-            showSaveSuccessNotification(filename);
-            System.out.println("Game saved successfully as: " + filename + ".json");
-        } else {
-            System.out.println("Failed to save game");
-        }
+        saveService.saveGame(character, filename, gameController.getEventManager(), saved -> {
+            if (saved) {
+                showSaveSuccessNotification(filename + saveService.getSaveExtension());
+                System.out.println("Game saved successfully as: " + filename + saveService.getSaveExtension());
+            } else {
+                System.out.println("Failed to save game");
+            }
+        });
 
         // TODO: Add a proper in-game dialog for save name input
     }
 
     private void showSaveSuccessNotification(String filename) {
-        notificationMessage = "Game saved successfully as: " + filename + ".json";
+        notificationMessage = "Game saved successfully as: " + filename;
         notificationTimer = NOTIFICATION_DURATION;
     }
 
@@ -136,6 +136,11 @@ public class GameScreen implements Screen {
 
                     if (characterRenderer != null) characterRenderer.render(batch);
 
+                    // Map effects and weather; during dialogs they are drawn over the dialog below
+                    if (!gameController.getDialogController().isDialogActive()) {
+                        gameController.getEffectManager().render(batch);
+                    }
+
                     // End the batch before rendering UI
                     batch.end();
 
@@ -11,7 +11,7 @@ import com.badlogic.gdx.math.Rectangle;
 import ctu.game.isometric.controller.GameController;
 import ctu.game.isometric.model.entity.Character;
 import ctu.game.isometric.model.game.Items;
-import ctu.game.isometric.util.ItemLoader;
+import ctu.game.isometric.util.GameData;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -191,7 +191,7 @@ public class InventoryUI {
             if (index >= MAX_SLOTS) break;
 
             // Draw item icon
-            Items item = ItemLoader.getItemByName(itemName);
+            Items item = GameData.get().getItem(itemName);
             if (item != null && item.getTexturePath() != null) {
                 Texture itemTexture = getItemTexture(item.getTexturePath());
                 batch.draw(itemTexture,
@@ -214,7 +214,7 @@ public class InventoryUI {
         // Draw item details if an item is selected
         if (selectedItemIndex >= 0 && selectedItemIndex < itemList.size()) {
             String itemName = itemList.get(selectedItemIndex);
-            Items item = ItemLoader.getItemByName(itemName);
+            Items item = GameData.get().getItem(itemName);
 
             if (item != null) {
                 font.draw(batch, item.getItemName(), detailsX, detailsY);
@@ -243,7 +243,7 @@ public class InventoryUI {
 
     private void preloadCommonTextures() {
         // Preload commonly used item textures
-        List<Items> commonItems = ItemLoader.getAllItems();
+        List<Items> commonItems = GameData.get().getItems();
         if (commonItems != null) {
             for (Items item : commonItems) {
                 if (item != null && item.getTexturePath() != null) {
@@ -310,7 +310,7 @@ public class InventoryUI {
         if (selectedItemIndex < 0 || selectedItemIndex >= itemList.size()) return;
 
         String itemName = itemList.get(selectedItemIndex);
-        Items item = ItemLoader.getItemByName(itemName);
+        Items item = GameData.get().getItem(itemName);
 
         if (item != null) {
             try {
@@ -332,7 +332,7 @@ public class InventoryUI {
         if (selectedItemIndex < 0 || selectedItemIndex >= itemList.size()) return;
 
         String itemName = itemList.get(selectedItemIndex);
-        Items item = ItemLoader.getItemByName(itemName);
+        Items item = GameData.get().getItem(itemName);
 
         if (item != null) {
             gameController.getCharacter().deleteItem(item);
@@ -4,6 +4,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -13,15 +15,20 @@ import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Align;
 import ctu.game.isometric.controller.GameController;
 import ctu.game.isometric.model.dictionary.Dictionary;
+import ctu.game.isometric.model.dictionary.DictionaryIndex;
 import ctu.game.isometric.model.dictionary.Word;
 import ctu.game.isometric.model.dictionary.WordDefinition;
 import ctu.game.isometric.model.game.GameState;
 import ctu.game.isometric.util.WordNetValidator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static ctu.game.isometric.util.FontGenerator.generateVietNameseFont;
 
@@ -52,16 +59,39 @@ public class DictionaryView {
     private float detailsScrollPosition = 0;
     private float maxDetailsScrollPosition = 0;
 
+    // Rows are drawn only for the visible page; the list itself is never copied
     private List<Word> displayedWords = new ArrayList<>();
     private boolean showingLearnedWords = true;
     private Word selectedWord = null;
+    private int selectedIndex = -1;
     private String searchText = "";
     private int wordListStartIndex = 0;
     private static final int WORDS_PER_PAGE = 14;
     private BitmapFont labelFont;
     private boolean isSearchFocused = false;
+    private final Matrix4 textProjection = new Matrix4().setToOrtho2D(0, 0, 1280, 720);
+
+    // Detail pane layout for the selected word, measured once and culled to the viewport
+    private Word detailLayoutWord = null;
+    private final List<DetailRow> detailRows = new ArrayList<>();
+    // Rows are laid out in white and tinted with the font colour when drawn
+    private BitmapFontCache detailText;
+    private float detailContentHeight = 0;
     int newLearnedWords = 0;
 
+    // Type-ahead search: each typed character narrows the previous substring matches
+    // immediately, and the ranked index search runs on a worker once typing pauses
+    private static final float INDEX_SEARCH_DELAY = 0.25f;
+    private final Deque<SearchStep> searchSteps = new ArrayDeque<>();
+    private final AtomicReference<SearchResult> pendingSearchResult = new AtomicReference<>();
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dictionary-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private float indexSearchTimer = -1;
+    private int searchGeneration = 0;
+
     public DictionaryView(GameController gameController, Dictionary dictionary, WordNetValidator wordNetValidator) {
         this.gameController = gameController;
         this.dictionary = dictionary;
@@ -83,6 +113,7 @@ public class DictionaryView {
     }
 
     public void update(float delta) {
+        updateSearch(delta);
         updateScrollBars();
     }
     public boolean handleKeyTyped(char character) {
@@ -94,6 +125,7 @@ public class DictionaryView {
         if (character == '\b') {
             if (searchText.length() > 0) {
                 searchText = searchText.substring(0, searchText.length() - 1);
+                onSearchTextChanged();
                 return true;
             }
             return false;
@@ -108,6 +140,7 @@ public class DictionaryView {
         // Only accept printable characters
         if (!Character.isISOControl(character)) {
             searchText += character;
+            onSearchTextChanged();
             return true;
         }
 
@@ -160,7 +193,7 @@ public class DictionaryView {
                 y >= detailsArea.y + 15 && y <= detailsArea.y + 45) {
             dictionary.markWordAsLearned(selectedWord.getTerm());
             updateWordList();
-            selectedWord = null;
+            selectWord(-1);
         }
     }
 
@@ -213,7 +246,8 @@ public class DictionaryView {
 
         // Update details scroll thumb
         if (selectedWord != null) {
-            float contentHeight = calculateWordDetailsHeight();
+            ensureDetailLayout();
+            float contentHeight = detailContentHeight;
             maxDetailsScrollPosition = Math.max(0, contentHeight - detailsArea.height);
 
             if (contentHeight > detailsArea.height) {
@@ -234,7 +268,7 @@ public class DictionaryView {
 
     public void selectPreviousWord() {
         if (selectedWord != null) {
-            int currentIndex = displayedWords.indexOf(selectedWord);
+            int currentIndex = selectedIndex;
 
             // If at the top of visible list and can scroll up
             if (currentIndex == wordListStartIndex && wordListStartIndex > 0) {
@@ -243,17 +277,17 @@ public class DictionaryView {
 
             // Select previous word if possible
             if (currentIndex > 0) {
-                selectedWord = displayedWords.get(currentIndex - 1);
+                selectWord(currentIndex - 1);
             }
         } else if (!displayedWords.isEmpty()) {
 
-            selectedWord = displayedWords.get(0);
+            selectWord(0);
         }
     }
 
     public void selectNextWord() {
         if (selectedWord != null) {
-            int currentIndex = displayedWords.indexOf(selectedWord);
+            int currentIndex = selectedIndex;
             int lastIndex = displayedWords.size() - 1;
 
             // If at the bottom of visible list and can scroll down
@@ -263,26 +297,41 @@ public class DictionaryView {
 
             // Select next word if possible
             if (currentIndex < lastIndex) {
-                selectedWord = displayedWords.get(currentIndex + 1);
+                selectWord(currentIndex + 1);
             }
         } else if (!displayedWords.isEmpty()) {
             // If no word selected, select the first word
-            selectedWord = displayedWords.get(0);
+            selectWord(0);
         }
     }
 
     private void selectWordFromList(float y) {
         int index = (int)((wordListArea.y + wordListArea.height - y) / 30) + wordListStartIndex;
         if (index >= 0 && index < displayedWords.size()) {
-            selectedWord = displayedWords.get(index);
+            selectWord(index);
+        }
+    }
+
+    private void selectWord(int index) {
+        Word word = index >= 0 && index < displayedWords.size() ? displayedWords.get(index) : null;
+        if (word != selectedWord) {
             detailsScrollPosition = 0; // Reset details scroll when selecting a new word
         }
+        selectedWord = word;
+        selectedIndex = word != null ? index : -1;
+    }
+
+    // Swap in a new word list, keeping the selection if it is still listed
+    private void setDisplayedWords(List<Word> words) {
+        displayedWords = words;
+        selectedIndex = selectedWord != null ? displayedWords.indexOf(selectedWord) : -1;
+        if (selectedIndex < 0) {
+            selectedWord = null;
+        }
     }
 
     private void updateWordList() {
-        displayedWords.clear();
-        Set<Word> words = showingLearnedWords ? dictionary.getLearnedWords() : dictionary.getNewWords();
-        displayedWords.addAll(words);
+        setDisplayedWords(showingLearnedWords ? dictionary.getLearnedWords() : dictionary.getNewWords());
 
         // Adjust start index if needed
         if (wordListStartIndex + WORDS_PER_PAGE > displayedWords.size()) {
@@ -294,24 +343,97 @@ public class DictionaryView {
         if (word == null || word.isEmpty()) {
             return;
         }
+        if (dictionary.contains(word)) {
+            return;
+        }
         Word newWord = wordNetValidator.getWordDetails(word);
-        if (!dictionary.getNewWords().contains(newWord) && !dictionary.getLearnedWords().contains(newWord) ){
+        if (newWord != null) {
             System.out.printf("word: %s\n", newWord.getTerm());
             dictionary.addNewWord(newWord);
             newLearnedWords++;
         }
     }
 
+    // Run the ranked index search without waiting for the typing pause
     private void searchWords() {
         if (searchText.isEmpty()) {
             updateWordList();
             return;
         }
-        displayedWords.clear();
-        Set<Word> searchResults = dictionary.searchWords(searchText);
-        if (searchResults != null && !searchResults.isEmpty()) {
-            displayedWords.addAll(searchResults);
-            selectedWord = displayedWords.iterator().next();
+        indexSearchTimer = 0;
+    }
+
+    private void onSearchTextChanged() {
+        searchGeneration++;
+
+        if (searchText.isEmpty()) {
+            searchSteps.clear();
+            indexSearchTimer = -1;
+            updateWordList();
+            return;
+        }
+
+        // Deleting a character returns to the previous, wider step
+        while (searchSteps.size() > searchText.length()) {
+            searchSteps.pop();
+        }
+        if (searchSteps.isEmpty() || !searchText.startsWith(searchSteps.peek().query)) {
+            searchSteps.clear();
+        }
+        if (searchSteps.isEmpty() || searchSteps.peek().query.length() < searchText.length()) {
+            searchSteps.push(narrow(searchSteps.peek(), searchText));
+        }
+
+        showSearchResults(searchSteps.peek().words);
+        indexSearchTimer = INDEX_SEARCH_DELAY;
+    }
+
+    // Filter the previous step's matches (or all words) by the longer query
+    private SearchStep narrow(SearchStep previous, String query) {
+        String normalizedQuery = DictionaryIndex.normalize(query);
+        SearchStep step = new SearchStep(query);
+
+        if (previous != null) {
+            for (int i = 0; i < previous.words.size(); i++) {
+                if (previous.keys.get(i).contains(normalizedQuery)) {
+                    step.add(previous.words.get(i), previous.keys.get(i));
+                }
+            }
+        } else {
+            List<Word> words = dictionary.getAllWords();
+            List<String> keys = dictionary.getAllKeys();
+            for (int i = 0; i < words.size(); i++) {
+                if (keys.get(i).contains(normalizedQuery)) {
+                    step.add(words.get(i), keys.get(i));
+                }
+            }
+        }
+        return step;
+    }
+
+    private void updateSearch(float delta) {
+        if (indexSearchTimer >= 0) {
+            indexSearchTimer -= delta;
+            if (indexSearchTimer <= 0) {
+                indexSearchTimer = -1;
+                final int generation = searchGeneration;
+                final String query = searchText;
+                searchExecutor.submit(() ->
+                        pendingSearchResult.set(new SearchResult(generation, dictionary.searchKeys(query))));
+            }
+        }
+
+        // Results for text that has since changed are dropped
+        SearchResult result = pendingSearchResult.getAndSet(null);
+        if (result != null && result.generation == searchGeneration) {
+            showSearchResults(dictionary.resolveWords(result.keys));
+        }
+    }
+
+    private void showSearchResults(List<Word> results) {
+        setDisplayedWords(results);
+        if (selectedWord == null) {
+            selectWord(0);
         }
         wordListStartIndex = 0;
     }
@@ -369,7 +491,7 @@ public class DictionaryView {
 
         // If there's a word selected, highlight it
         if (selectedWord != null) {
-            int index = displayedWords.indexOf(selectedWord);
+            int index = selectedIndex;
             if (index >= wordListStartIndex && index < wordListStartIndex + WORDS_PER_PAGE) {
                 shapeRenderer.setColor(0.4f, 0.4f, 0.6f, 1);
                 float y = wordListArea.y + wordListArea.height - 30 * (index - wordListStartIndex + 1);
@@ -381,7 +503,7 @@ public class DictionaryView {
         Gdx.gl.glDisable(GL20.GL_BLEND);
 
         // Then draw text with the batch
-        batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0, 0, 1280, 720));
+        batch.setProjectionMatrix(textProjection);
 
         if(batch.isDrawing()) batch.end();
         batch.begin();
@@ -426,61 +548,27 @@ public class DictionaryView {
         if (!batch.isDrawing()) {
             batch.begin();
         }
+        ensureDetailLayout();
 
         // Enable scissors to clip content to details area
         batch.flush();
         Rectangle scissors = new Rectangle(detailsArea.x, detailsArea.y, detailsArea.width, detailsArea.height);
         ScissorStack.pushScissors(scissors);
 
-        float y = detailsArea.y + detailsArea.height - 20 + detailsScrollPosition;
-
-        // Word term
-        labelFont.draw(batch, selectedWord.getTerm(), detailsArea.x + 20, y);
-        y -= 40;
-
-        // Pronunciation
-        if (selectedWord.getPronunciation() != null && !selectedWord.getPronunciation().isEmpty()) {
-            labelFont.draw(batch, "Pronunciation: " + selectedWord.getPronunciation(),
-                    detailsArea.x + 20, y);
-            y -= 30;
-        }
-
-        // Definitions
-        if (!selectedWord.getDefinitions().isEmpty()) {
-            labelFont.draw(batch, "Definitions:", detailsArea.x + 20, y);
-            y -= 30;
-
-            for (WordDefinition def : selectedWord.getDefinitions()) {
-                String defText = "• " + def.getPartOfSpeech() + ": " + def.getDefinition();
-                float defTextHeight = calculateTextHeight(defText, 16, detailsArea.width - 40);
-                labelFont.draw(batch, defText, detailsArea.x + 20, y,
-                        detailsArea.width - 40, Align.left, true);
-                y -= defTextHeight + 10;
-
-                // Examples
-                if (!def.getExamples().isEmpty()) {
-                    labelFont.draw(batch, "Examples:", detailsArea.x + 40, y);
-                    y -= 20;
-
-                    for (String example : def.getExamples()) {
-                        String formattedExample = "- " + example;
-                        float exampleHeight = calculateTextHeight(formattedExample, 16, detailsArea.width - 60);
-                        labelFont.draw(batch, formattedExample, detailsArea.x + 40, y,
-                                detailsArea.width - 60, Align.left, true);
-                        y -= exampleHeight + 5;
-                    }
-                }
-
-                // Synonyms
-                if (!def.getSynonyms().isEmpty()) {
-                    String synonyms = "Synonyms: " + String.join(", ", def.getSynonyms());
-                    float synonymsHeight = calculateTextHeight(synonyms, 16, detailsArea.width - 60);
-                    labelFont.draw(batch, synonyms, detailsArea.x + 40, y,
-                            detailsArea.width - 60, Align.left, true);
-                    y -= synonymsHeight + 15;
-                }
-            }
+        float top = detailsArea.y + detailsArea.height - 20 + detailsScrollPosition;
+        float viewTop = detailsArea.y + detailsArea.height;
+
+        // Skip rows scrolled off the top, then draw until rows fall below the pane
+        if (detailText == null) detailText = labelFont.newFontCache();
+        detailText.clear();
+        for (int i = firstVisibleDetailRow(top - viewTop); i < detailRows.size(); i++) {
+            DetailRow row = detailRows.get(i);
+            float y = top - row.offset;
+            if (y < detailsArea.y) break;
+            detailText.addText(row.layout, row.x, y);
         }
+        detailText.tint(labelFont.getColor());
+        detailText.draw(batch);
 
         // Mark as learned button for new words
         if (!showingLearnedWords) {
@@ -494,59 +582,132 @@ public class DictionaryView {
         ScissorStack.popScissors();
     }
 
-    // Calculate total height of word details to determine scrolling range
-    private float calculateWordDetailsHeight() {
-        if (selectedWord == null) return 0;
+    // Index of the first row whose bottom edge is below the given offset from the content top
+    private int firstVisibleDetailRow(float hiddenHeight) {
+        int low = 0;
+        int high = detailRows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            DetailRow row = detailRows.get(mid);
+            if (row.offset + row.layout.height < hiddenHeight) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Measure and lay out the selected word once; reused every frame until the selection changes
+    private void ensureDetailLayout() {
+        if (detailLayoutWord == selectedWord) return;
+        detailLayoutWord = selectedWord;
+        detailRows.clear();
+        detailContentHeight = 0;
+        if (selectedWord == null) return;
 
-        float height = 60; // Basic padding + word term height
+        float left = detailsArea.x + 20;
+        float indented = detailsArea.x + 40;
+        float offset = 0;
 
+        // Word term
+        offset = addDetailRow(selectedWord.getTerm(), left, 0, offset) + 40;
+
+        // Pronunciation
         if (selectedWord.getPronunciation() != null && !selectedWord.getPronunciation().isEmpty()) {
-            height += 30;
+            offset = addDetailRow("Pronunciation: " + selectedWord.getPronunciation(), left, 0, offset) + 30;
         }
 
+        // Definitions
         if (!selectedWord.getDefinitions().isEmpty()) {
-            height += 30; // "Definitions:" header
+            offset = addDetailRow("Definitions:", left, 0, offset) + 30;
 
             for (WordDefinition def : selectedWord.getDefinitions()) {
                 String defText = "• " + def.getPartOfSpeech() + ": " + def.getDefinition();
-                height += calculateTextHeight(defText, 16, detailsArea.width - 40) + 10;
+                offset = addDetailRow(defText, left, detailsArea.width - 40, offset);
+                offset += detailRows.get(detailRows.size() - 1).layout.height + 10;
 
+                // Examples
                 if (!def.getExamples().isEmpty()) {
-                    height += 20; // "Examples:" header
+                    offset = addDetailRow("Examples:", indented, 0, offset) + 20;
 
                     for (String example : def.getExamples()) {
-                        String formattedExample = "- " + example;
-                        height += calculateTextHeight(formattedExample, 16, detailsArea.width - 60) + 5;
+                        offset = addDetailRow("- " + example, indented, detailsArea.width - 60, offset);
+                        offset += detailRows.get(detailRows.size() - 1).layout.height + 5;
                     }
                 }
 
+                // Synonyms
                 if (!def.getSynonyms().isEmpty()) {
                     String synonyms = "Synonyms: " + String.join(", ", def.getSynonyms());
-                    height += calculateTextHeight(synonyms, 16, detailsArea.width - 60) + 15;
+                    offset = addDetailRow(synonyms, indented, detailsArea.width - 60, offset);
+                    offset += detailRows.get(detailRows.size() - 1).layout.height + 15;
                 }
             }
         }
 
-        return height;
+        // Top padding above the term line
+        detailContentHeight = offset + 20;
+    }
+
+    // Adds a row at the given offset; a wrapWidth of 0 lays it out on one line
+    private float addDetailRow(String text, float x, float wrapWidth, float offset) {
+        GlyphLayout layout = wrapWidth > 0
+                ? new GlyphLayout(labelFont, text, Color.WHITE, wrapWidth, Align.left, true)
+                : new GlyphLayout(labelFont, text, Color.WHITE, 0, Align.left, false);
+        detailRows.add(new DetailRow(layout, x, offset));
+        return offset;
     }
 
     public void dispose() {
+        searchExecutor.shutdownNow();
         shapeRenderer.dispose();
         if (labelFont != null) {
             labelFont.dispose();
         }
     }
 
-    private float calculateTextHeight(String text, int fontSize, float width) {
-        com.badlogic.gdx.graphics.g2d.GlyphLayout layout = new com.badlogic.gdx.graphics.g2d.GlyphLayout();
-        layout.setText(labelFont, text, Color.WHITE, width, com.badlogic.gdx.utils.Align.left, true);
-        return layout.height;
-    }
-
     public Dictionary getDictionary() {
         return dictionary;
     }
 
+    private static class DetailRow {
+        final GlyphLayout layout;
+        final float x;
+        final float offset; // distance below the top of the content
+
+        DetailRow(GlyphLayout layout, float x, float offset) {
+            this.layout = layout;
+            this.x = x;
+            this.offset = offset;
+        }
+    }
+
+    private static class SearchStep {
+        final String query;
+        final List<Word> words = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+
+        SearchStep(String query) {
+            this.query = query;
+        }
+
+        void add(Word word, String key) {
+            words.add(word);
+            keys.add(key);
+        }
+    }
+
+    private static class SearchResult {
+        final int generation;
+        final List<String> keys;
+
+        SearchResult(int generation, List<String> keys) {
+            this.generation = generation;
+            this.keys = keys;
+        }
+    }
+
     // ScissorStack helper class to clip rendering
     private static class ScissorStack {
         public static void pushScissors(Rectangle scissor) {
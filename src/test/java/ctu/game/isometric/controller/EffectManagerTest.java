@@ -0,0 +1,74 @@
+package ctu.game.isometric.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EffectManagerTest {
+    private static final int BUDGET = 3000;
+    private static final float FRAME = 1 / 60f;
+
+    @Test
+    void underBudgetStaysAtFullEmission() {
+        float scale = 1f;
+        for (int frame = 0; frame < 600; frame++) {
+            scale = EffectManager.nextBudgetScale(scale, 2000, BUDGET, FRAME);
+        }
+        assertEquals(1f, scale);
+    }
+
+    @Test
+    void overBudgetSettlesOnFitWithoutOvershoot() {
+        // The live count follows the scale, as it does once emission is rewritten
+        float load = 6000f;
+        float scale = 1f;
+        for (int frame = 0; frame < 600; frame++) {
+            float next = EffectManager.nextBudgetScale(scale, Math.round(load * scale), BUDGET, FRAME);
+            assertTrue(next <= scale, "scale rose while over budget");
+            assertTrue(next >= 0.5f - 1e-4f, "scale undershot the fit: " + next);
+            scale = next;
+        }
+        assertEquals(0.5f, scale, 1e-3f);
+    }
+
+    @Test
+    void recoversTowardFullWhenLoadDrops() {
+        float load = 1000f;
+        float scale = 0.5f;
+        for (int frame = 0; frame < 60; frame++) {
+            float next = EffectManager.nextBudgetScale(scale, Math.round(load * scale), BUDGET, FRAME);
+            assertTrue(next >= scale && next <= 1f);
+            scale = next;
+        }
+        // Recovery is slower than cutting back: one second closes well under all of the gap
+        assertTrue(scale > 0.6f && scale < 0.9f, "scale after one second: " + scale);
+
+        for (int frame = 0; frame < 1200; frame++) {
+            scale = EffectManager.nextBudgetScale(scale, 0, BUDGET, FRAME);
+        }
+        assertEquals(1f, scale, 1e-3f);
+    }
+
+    @Test
+    void cutIsFasterThanRecovery() {
+        float cut = 1f - EffectManager.nextBudgetScale(1f, 6000, BUDGET, FRAME);
+        float recovered = EffectManager.nextBudgetScale(0.5f, 500, BUDGET, FRAME) - 0.5f;
+        assertTrue(cut > recovered, cut + " vs " + recovered);
+    }
+
+    @Test
+    void neverScalesBelowMinimum() {
+        float scale = 1f;
+        for (int frame = 0; frame < 600; frame++) {
+            scale = EffectManager.nextBudgetScale(scale, Math.round(1_000_000 * scale), BUDGET, FRAME);
+        }
+        assertEquals(0.1f, scale, 1e-4f);
+    }
+
+    @Test
+    void longFrameJumpsToTargetButNotPast() {
+        assertEquals(0.5f, EffectManager.nextBudgetScale(1f, 6000, BUDGET, 5f), 1e-6f);
+        assertEquals(1f, EffectManager.nextBudgetScale(0.5f, 0, BUDGET, 5f), 1e-6f);
+    }
+}
@@ -0,0 +1,187 @@
+package ctu.game.isometric.model.combat;
+
+import ctu.game.isometric.model.entity.Character;
+import ctu.game.isometric.model.entity.Enemy;
+import ctu.game.isometric.model.entity.EnemyType;
+import ctu.game.isometric.model.game.Items;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CombatEngineTest {
+    private CombatRules rules;
+
+    @BeforeEach
+    void setUp() {
+        // Fixed rolls and plain attacks unless a test says otherwise
+        rules = new CombatRules();
+        rules.setEnemyTurnDelay(1f);
+        rules.setResolveDelay(0.5f);
+        rules.setAttackWeight(1);
+        rules.setPowerAttackWeight(0);
+        rules.setHealWeight(0);
+        rules.setAttackRollMin(3);
+        rules.setAttackRollMax(3);
+    }
+
+    @Test
+    void castWordPassesTurnAndEnemyAnswersAfterDelay() {
+        CombatEngine combat = engine(50, 1.5f, 100, 2);
+
+        assertEquals(15f, combat.castWord("CAT", 10));
+        assertEquals(85f, combat.getState().getEnemyHealth());
+        assertFalse(combat.canAct());
+        assertEquals(-1f, combat.castWord("DOG", 10));
+
+        combat.update(0.5f);
+        assertFalse(combat.getState().isPlayerTurn());
+        assertEquals(0.5f, combat.getEnemyTurnRemaining(), 1e-6);
+
+        combat.update(0.5f);
+        assertTrue(combat.canAct());
+        assertEquals(44f, combat.getState().getPlayerHealth());
+        assertEquals(List.of(CombatEvent.Type.WORD_CAST, CombatEvent.Type.ENEMY_TURN,
+                CombatEvent.Type.ENEMY_ATTACK, CombatEvent.Type.PLAYER_TURN), types(combat));
+    }
+
+    @Test
+    void finishingBlowIsClampedAndResolvedAfterDelay() {
+        CombatEngine combat = engine(50, 1, 12, 1);
+
+        assertEquals(12f, combat.castWord("ELEPHANT", 40));
+        assertFalse(combat.getState().isFinished());
+        assertFalse(combat.canAct());
+
+        combat.update(0.5f);
+        assertEquals(CombatState.Outcome.VICTORY, combat.getState().getOutcome());
+        assertEquals(CombatEvent.Type.VICTORY, combat.getHistory().get(combat.getHistory().size() - 1).getType());
+
+        int events = combat.getHistory().size();
+        combat.update(10f);
+        assertEquals(events, combat.getHistory().size());
+    }
+
+    @Test
+    void playerFallsWhenHitBelowZero() {
+        CombatEngine combat = engine(5, 1, 100, 2);
+
+        combat.castWord("CAT", 1);
+        combat.update(0.5f);
+        combat.update(0.5f); // enemy hits for 6
+        assertEquals(-1f, combat.getState().getPlayerHealth());
+        assertFalse(combat.canAct());
+
+        combat.update(0.5f);
+        assertEquals(CombatState.Outcome.DEFEAT, combat.getState().getOutcome());
+        assertEquals(0f, combat.getState().getPlayerHealth());
+    }
+
+    @Test
+    void itemsTakeTheTurn() {
+        CombatEngine combat = engine(30, 1, 100, 1);
+
+        assertTrue(combat.useItem(new Items(1, "Potion", "", "", "heal", 40)));
+        assertEquals(50f, combat.getState().getPlayerHealth()); // capped at max health
+        assertFalse(combat.useItem(new Items(2, "Strength Potion", "", "", "buff", 1)));
+
+        combat.update(0.5f);
+        combat.update(0.5f);
+        assertTrue(combat.useItem(new Items(2, "Strength Potion", "", "", "buff", 1)));
+        assertEquals(2f, combat.getState().getDamageMultiplier());
+
+        combat.update(1f);
+        assertEquals(20f, combat.castWord("CAT", 10));
+    }
+
+    @Test
+    void enemyActionsFollowWeightsAndCaps() {
+        rules.setAttackWeight(0);
+        rules.setHealWeight(1);
+        rules.setHealMin(50);
+        rules.setHealMax(50);
+        CombatEngine combat = engine(50, 1, 100, 1);
+
+        combat.castWord("CAT", 10);
+        combat.update(1f);
+        assertEquals(CombatEvent.Type.ENEMY_HEAL, combat.getHistory().get(2).getType());
+        assertEquals(100f, combat.getState().getEnemyHealth());
+
+        rules.setHealWeight(0);
+        rules.setPowerAttackWeight(1);
+        rules.setPowerBonusMin(4);
+        rules.setPowerBonusMax(4);
+        combat.castWord("CAT", 10);
+        combat.update(1f);
+        assertEquals(CombatEvent.Type.ENEMY_POWER_ATTACK, combat.getHistory().get(6).getType());
+        assertEquals(43f, combat.getState().getPlayerHealth());
+    }
+
+    @Test
+    void sameSeedReplaysSameBattle() {
+        rules.setAttackWeight(5);
+        rules.setPowerAttackWeight(3);
+        rules.setHealWeight(2);
+        rules.setAttackRollMax(10);
+
+        CombatEngine first = playOut(new Random(42));
+        CombatEngine second = playOut(new Random(42));
+        assertEquals(describe(first.getHistory()), describe(second.getHistory()));
+
+        // The history alone rebuilds the final state
+        CombatState replayed = first.replay(first.getHistory().size());
+        assertEquals(first.getState().getPlayerHealth(), replayed.getPlayerHealth());
+        assertEquals(first.getState().getEnemyHealth(), replayed.getEnemyHealth());
+        assertEquals(first.getState().getOutcome(), replayed.getOutcome());
+    }
+
+    private CombatEngine playOut(Random random) {
+        CombatEngine combat = new CombatEngine(rules, random, player(50, 1), enemy(60, 2));
+        for (int turn = 0; turn < 100 && !combat.getState().isFinished(); turn++) {
+            if (combat.canAct()) {
+                combat.castWord("WORD", 5 + random.nextInt(5));
+            }
+            combat.update(0.5f);
+        }
+        assertTrue(combat.getState().isFinished());
+        return combat;
+    }
+
+    private CombatEngine engine(float playerHealth, float damage, float enemyHealth, int attackPower) {
+        return new CombatEngine(rules, new Random(1), player(playerHealth, damage), enemy(enemyHealth, attackPower));
+    }
+
+    private static Character player(float health, float damage) {
+        Character character = new Character();
+        character.setMaxHealth(50);
+        character.setHealth(health);
+        character.setDamage(damage);
+        return character;
+    }
+
+    private static Enemy enemy(float health, int attackPower) {
+        return new Enemy(new EnemyType(1, "Slime", "", "", health, attackPower, 0));
+    }
+
+    private static List<CombatEvent.Type> types(CombatEngine combat) {
+        List<CombatEvent.Type> types = new ArrayList<>();
+        for (CombatEvent event : combat.getHistory()) {
+            types.add(event.getType());
+        }
+        return types;
+    }
+
+    private static List<String> describe(List<CombatEvent> events) {
+        List<String> described = new ArrayList<>();
+        for (CombatEvent event : events) {
+            described.add(event.getType() + ":" + event.getAmount());
+        }
+        return described;
+    }
+}
@@ -0,0 +1,169 @@
+package ctu.game.isometric.model.condition;
+
+import ctu.game.isometric.model.game.FlagSet;
+import ctu.game.isometric.model.game.SymbolTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionTest {
+    private final TestContext ctx = new TestContext();
+
+    @Test
+    void precedenceIsNotThenAndThenOr() {
+        assertEquals("(flag(a) || (flag(b) && !flag(c)))", parse("a || b && !c").toString());
+        assertEquals("((flag(a) || flag(b)) && flag(c))", parse("(a || b) && c").toString());
+        assertEquals("(flag(a) || (flag(b) && !flag(c)))", parse("a or b and not c").toString());
+    }
+
+    @Test
+    void keywordsDontSwallowLongerNames() {
+        assertEquals("(flag(order) && flag(android))", parse("order and android").toString());
+        assertEquals("!flag(notice)", parse("not notice").toString());
+    }
+
+    @Test
+    void bangBeforeEqualsIsComparison() {
+        assertEquals("(health != 0)", parse("health != 0").toString());
+        assertEquals("!(health == 0)", parse("!(health == 0)").toString());
+    }
+
+    @Test
+    void evaluatesFlagsQuestsAndStatuses() {
+        ctx.flags.add("met_learna");
+        ctx.quests.add("find_book");
+        ctx.buffs.add("strength");
+
+        assertTrue(Condition.parse("met_learna && quest(find_book)").test(ctx));
+        assertTrue(Condition.parse("flag('met_learna') && buff(strength) && !debuff(strength)").test(ctx));
+        assertFalse(Condition.parse("met_learna && !quest(find_book)").test(ctx));
+        assertFalse(Condition.parse("unknown_flag").test(ctx));
+    }
+
+    @Test
+    void comparesCountsAndStats() {
+        ctx.items.put("Magic Book", 2);
+        ctx.words = 12;
+        ctx.health = 40;
+        ctx.defeated.add(7);
+
+        assertTrue(Condition.parse("item(\"Magic Book\") >= 2 && words > 10").test(ctx));
+        assertFalse(Condition.parse("item(\"Magic Book\") > 2").test(ctx));
+        assertTrue(Condition.parse("health <= 40 && health < 41 && score == 0").test(ctx));
+        assertTrue(Condition.parse("defeated(7) && !defeated(8)").test(ctx));
+        assertTrue(Condition.parse("health > -5").test(ctx));
+    }
+
+    @Test
+    void andOrShortCircuit() {
+        // The right side would count as a lookup; it must not be reached
+        ctx.flags.add("a");
+        assertTrue(Condition.parse("a || item(x) > 0").test(ctx));
+        assertFalse(Condition.parse("!a && item(x) > 0").test(ctx));
+        assertEquals(0, ctx.itemLookups);
+    }
+
+    @Test
+    void errorsReportPosition() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> Condition.parse("a && (b"));
+        assertTrue(error.getMessage().contains("expected ')'"), error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Condition.parse("a b"));
+        assertThrows(IllegalArgumentException.class, () -> Condition.parse("health >="));
+        assertThrows(IllegalArgumentException.class, () -> Condition.parse("magic(x)"));
+        assertThrows(IllegalArgumentException.class, () -> Condition.parse("flag('open)"));
+    }
+
+    @Test
+    void keyValueFormIsAndOfEntries() {
+        Map<String, Object> conditions = new LinkedHashMap<>();
+        conditions.put("required_items", List.of("Key"));
+        conditions.put("not_flag", "door_open");
+        conditions.put("min_learned_words", "5");
+        Condition condition = Condition.compile(conditions, "test");
+
+        ctx.items.put("Key", 1);
+        ctx.words = 5;
+        assertTrue(condition.test(ctx));
+
+        ctx.flags.add("door_open");
+        assertFalse(condition.test(ctx));
+    }
+
+    @Test
+    void emptyConditionsAlwaysPass() {
+        assertTrue(Condition.compile((String) null, "test").test(ctx));
+        assertTrue(Condition.compile(new HashMap<>(), "test").test(ctx));
+        assertTrue(Condition.parse("true").test(ctx));
+        assertFalse(Condition.parse("false").test(ctx));
+    }
+
+    private static Expr parse(String source) {
+        return new ConditionParser(source).parse();
+    }
+
+    private static final class TestContext implements ConditionContext {
+        final FlagSet flags = new FlagSet(SymbolTable.FLAGS);
+        final FlagSet quests = new FlagSet(SymbolTable.QUESTS);
+        final FlagSet buffs = new FlagSet(SymbolTable.STATUS);
+        final FlagSet debuffs = new FlagSet(SymbolTable.STATUS);
+        final Map<String, Integer> items = new HashMap<>();
+        final Set<Integer> defeated = new HashSet<>();
+        int words, health, score, itemLookups;
+
+        @Override
+        public boolean hasFlag(int flagId) {
+            return flags.has(flagId);
+        }
+
+        @Override
+        public boolean hasQuest(int questId) {
+            return quests.has(questId);
+        }
+
+        @Override
+        public int getItemCount(String item) {
+            itemLookups++;
+            return items.getOrDefault(item, 0);
+        }
+
+        @Override
+        public boolean hasBuff(int statusId) {
+            return buffs.has(statusId);
+        }
+
+        @Override
+        public boolean hasDebuff(int statusId) {
+            return debuffs.has(statusId);
+        }
+
+        @Override
+        public boolean isEnemyDefeated(int enemyId) {
+            return defeated.contains(enemyId);
+        }
+
+        @Override
+        public int getLearnedWordCount() {
+            return words;
+        }
+
+        @Override
+        public int getHealth() {
+            return health;
+        }
+
+        @Override
+        public int getScore() {
+            return score;
+        }
+    }
+}
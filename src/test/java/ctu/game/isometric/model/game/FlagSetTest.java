@@ -0,0 +1,112 @@
+package ctu.game.isometric.model.game;
+
+import ctu.game.isometric.model.entity.Character;
+import ctu.game.isometric.util.BinarySaveCodec;
+import ctu.game.isometric.util.JsonSaveCodec;
+import ctu.game.isometric.util.SaveCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlagSetTest {
+
+    @Test
+    void internReturnsStableDenseIds() {
+        int first = SymbolTable.FLAGS.intern("flagset_test_intern");
+        assertEquals(first, SymbolTable.FLAGS.intern("flagset_test_intern"));
+        assertEquals(first, SymbolTable.FLAGS.find("flagset_test_intern"));
+        assertEquals("flagset_test_intern", SymbolTable.FLAGS.nameOf(first));
+        assertEquals(-1, SymbolTable.FLAGS.find("flagset_test_never_interned"));
+    }
+
+    @Test
+    void addRemoveAndGrowPastOneWord() {
+        FlagSet set = new FlagSet(SymbolTable.FLAGS);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            names.add("flagset_test_grow_" + i);
+        }
+        set.addAll(names);
+        assertEquals(200, set.size());
+        assertFalse(set.add(names.get(150)));
+
+        assertTrue(set.remove(names.get(150)));
+        assertFalse(set.remove(names.get(150)));
+        assertFalse(set.has(names.get(150)));
+        assertTrue(set.has(names.get(199)));
+        assertEquals(199, set.size());
+        assertFalse(set.has("flagset_test_never_interned"));
+    }
+
+    @Test
+    void copyIsIndependent() {
+        FlagSet set = FlagSet.of(SymbolTable.QUESTS, List.of("flagset_test_q1"));
+        FlagSet copy = set.copy();
+        copy.add("flagset_test_q2");
+
+        assertFalse(set.has("flagset_test_q2"));
+        assertTrue(copy.containsAll(set));
+        assertFalse(set.containsAll(copy));
+
+        List<String> added = new ArrayList<>();
+        copy.collectAddedSince(set, added);
+        assertEquals(List.of("flagset_test_q2"), added);
+    }
+
+    @Test
+    void equalityIgnoresCapacity() {
+        FlagSet small = FlagSet.of(SymbolTable.FLAGS, List.of("flagset_test_eq"));
+        FlagSet grown = FlagSet.of(SymbolTable.FLAGS, List.of("flagset_test_eq"));
+        for (int i = 0; i < 100; i++) {
+            grown.add("flagset_test_eq_" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            grown.remove("flagset_test_eq_" + i);
+        }
+
+        assertEquals(small, grown);
+        assertEquals(small.hashCode(), grown.hashCode());
+        assertNotEquals(small, FlagSet.of(SymbolTable.QUESTS, List.of("flagset_test_eq")));
+    }
+
+    @Test
+    void characterSetsSurviveBothSaveFormats() throws Exception {
+        Character character = new Character();
+        character.getFlags().add("flagset_test_met_learna");
+        character.getQuests().add("flagset_test_find_book");
+        character.getBuffs().add("flagset_test_strength");
+        character.getDebuffs().add("flagset_test_curse");
+
+        for (SaveCodec codec : new SaveCodec[]{new JsonSaveCodec(), new BinarySaveCodec()}) {
+            Character loaded = codec.decode(codec.encode(character), Character.class);
+            assertEquals(character.getFlags(), loaded.getFlags(), codec.getExtension());
+            assertEquals(character.getQuests(), loaded.getQuests(), codec.getExtension());
+            assertEquals(character.getBuffs(), loaded.getBuffs(), codec.getExtension());
+            assertEquals(character.getDebuffs(), loaded.getDebuffs(), codec.getExtension());
+        }
+    }
+
+    @Test
+    void savesStoreNamesNotIds() throws Exception {
+        // Names first seen in a save are interned on load, whatever ids this run has handed out
+        String json = "{\"flags\":[\"flagset_test_from_save\"],\"quests\":[],"
+                + "\"status\":{\"buffs\":[\"flagset_test_shield\"],\"debuffs\":[]}}";
+        SaveCodec codec = new JsonSaveCodec();
+        Character loaded = codec.decode(json.getBytes(StandardCharsets.UTF_8), Character.class);
+
+        assertTrue(loaded.getFlags().has("flagset_test_from_save"));
+        assertTrue(loaded.getBuffs().has("flagset_test_shield"));
+        assertEquals(1, loaded.getFlags().size());
+
+        String saved = new String(codec.encode(loaded), StandardCharsets.UTF_8);
+        assertTrue(saved.contains("flagset_test_from_save"), saved);
+        assertTrue(saved.contains("flagset_test_shield"), saved);
+    }
+}
@@ -0,0 +1,125 @@
+package ctu.game.isometric.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerServiceTest {
+    private final TimerService timers = new TimerService();
+
+    @Test
+    void firesOnFirstUpdateAtOrAfterDeadline() {
+        int[] fired = {0};
+        TimerService.Handle handle = timers.schedule(() -> fired[0]++, 0.5f);
+
+        timers.update(0.49f);
+        assertEquals(0, fired[0]);
+        assertTrue(handle.isScheduled());
+
+        timers.update(0.01f);
+        assertEquals(1, fired[0]);
+        assertFalse(handle.isScheduled());
+
+        timers.update(1f);
+        assertEquals(1, fired[0]);
+        assertEquals(0, timers.getScheduledCount());
+    }
+
+    @Test
+    void firesAfterMoreThanOneWheelRevolution() {
+        int[] fired = {0};
+        timers.schedule(() -> fired[0]++, 6f);
+
+        for (int frame = 0; frame < 359; frame++) {
+            timers.update(1 / 60f);
+        }
+        assertEquals(0, fired[0]);
+
+        timers.update(1 / 60f);
+        assertEquals(1, fired[0]);
+    }
+
+    @Test
+    void longStallFiresEverythingDueOnce() {
+        List<String> fired = new ArrayList<>();
+        timers.schedule(() -> fired.add("a"), 0.1f);
+        timers.schedule(() -> fired.add("b"), 2f);
+        timers.schedule(() -> fired.add("c"), 9f);
+        timers.schedule(() -> fired.add("late"), 20f);
+
+        timers.update(10f);
+
+        assertEquals(3, fired.size());
+        assertTrue(fired.containsAll(List.of("a", "b", "c")));
+        assertEquals(1, timers.getScheduledCount());
+    }
+
+    @Test
+    void repeatingTimerKeepsItsCadence() {
+        int[] fired = {0};
+        TimerService.Handle handle = timers.scheduleRepeating(() -> fired[0]++, 0.25f, 0.25f);
+
+        for (int frame = 0; frame < 60; frame++) {
+            timers.update(1 / 60f);
+        }
+        assertEquals(4, fired[0]);
+        assertTrue(handle.isScheduled());
+
+        handle.cancel();
+        timers.update(1f);
+        assertEquals(4, fired[0]);
+        assertEquals(0, timers.getScheduledCount());
+    }
+
+    @Test
+    void cancelledByEarlierCallbackInSameUpdateDoesNotFire() {
+        // Both are due together and each cancels the other, so only whichever runs first fires
+        int[] fired = {0};
+        TimerService.Handle[] handles = new TimerService.Handle[2];
+        handles[0] = timers.schedule(() -> { fired[0]++; handles[1].cancel(); }, 0.1f);
+        handles[1] = timers.schedule(() -> { fired[0]++; handles[0].cancel(); }, 0.1f);
+
+        timers.update(0.2f);
+
+        assertEquals(1, fired[0]);
+        assertFalse(handles[0].isScheduled());
+        assertFalse(handles[1].isScheduled());
+    }
+
+    @Test
+    void callbackCanScheduleFollowUp() {
+        List<Double> firedAt = new ArrayList<>();
+        timers.schedule(() -> {
+            firedAt.add(timers.getTime());
+            timers.schedule(() -> firedAt.add(timers.getTime()), 0.5f);
+        }, 0.5f);
+
+        for (int frame = 0; frame < 100; frame++) {
+            timers.update(0.02f);
+        }
+
+        assertEquals(2, firedAt.size());
+        assertEquals(0.5, firedAt.get(0), 1e-6);
+        assertEquals(1.0, firedAt.get(1), 1e-6);
+    }
+
+    @Test
+    void clearCancelsEverything() {
+        int[] fired = {0};
+        TimerService.Handle handle = timers.schedule(() -> fired[0]++, 0.1f);
+        timers.scheduleRepeating(() -> fired[0]++, 0.1f, 0.1f);
+
+        timers.clear();
+        timers.update(1f);
+
+        assertEquals(0, fired[0]);
+        assertFalse(handle.isScheduled());
+        assertEquals(0, timers.getScheduledCount());
+        assertEquals(0, handle.getRemaining());
+    }
+}